@@ -0,0 +1,166 @@
+package com.tenco.blog_jpa_step3.bench;
+
+import com.tenco.blog_jpa_step3.BlogJpaStep1Application;
+import com.tenco.blog_jpa_step3.board.BoardContent;
+import com.tenco.blog_jpa_step3.board.BoardReplyCountRepairJob;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 공통 상태
+ * 내장 H2 위에 애플리케이션 컨텍스트를 띄우고, 게시글 scale 건 규모의 데이터를 넣어 둡니다.
+ * 규모는 -Dblog.bench.scale (gradle -PjmhScale) 로 지정합니다. (기본 10,000)
+ *
+ * 사용자 = scale / 100 (최소 10명), 게시글 = scale, 댓글 = 게시글당 10개 (10% 는 DELETED)
+ */
+@State(Scope.Benchmark)
+public class BlogState {
+
+    public static final int REPLIES_PER_BOARD = 10;
+    private static final int BATCH_SIZE = 1000;
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 한다.
+    private static final int SEQUENCE_ALLOCATION = 50;
+
+    public ConfigurableApplicationContext context;
+    public JdbcTemplate jdbcTemplate;
+    public int scale;
+    public int userCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scale = Integer.getInteger("blog.bench.scale", 10_000);
+        userCount = Math.max(10, scale / 100);
+
+        // 명령행 인자는 application.yml 보다 우선순위가 높다.
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL",
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.root=WARN"));
+        args.addAll(extraArgs());
+        context = SpringApplication.run(BlogJpaStep1Application.class, args.toArray(String[]::new));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 하위 State 가 설정을 바꾸고 싶을 때 추가 인자를 넘깁니다. (예: JDBC 배치 크기)
+     */
+    protected List<String> extraArgs() {
+        return List.of();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * 시드 데이터 범위 안의 임의 게시글 ID
+     */
+    public int randomBoardId() {
+        return ThreadLocalRandom.current().nextInt(1, scale + 1);
+    }
+
+    /**
+     * 댓글 없는 게시글을 하나 추가하고 ID 를 반환합니다. (삭제 벤치마크 준비용)
+     */
+    public int insertBoard() {
+        // pooled 시퀀스 값 v 는 (v-49 ~ v) 구간을 뜻하므로 구간의 첫 값을 사용한다.
+        int id = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR board_seq", Integer.class) - SEQUENCE_ALLOCATION + 1;
+        int contentId = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR board_content_seq", Integer.class) - SEQUENCE_ALLOCATION + 1;
+        BoardContent body = BoardContent.of("삭제용 내용");
+        jdbcTemplate.update("INSERT INTO board_content_tb(id, data, compressed, original_length) VALUES (?, ?, ?, ?)",
+                contentId, body.getData(), body.isCompressed(), body.getOriginalLength());
+        jdbcTemplate.update("INSERT INTO board_tb(id, title, content_id, user_id, created_at) VALUES (?, ?, ?, ?, NOW())",
+                id, "삭제용 게시글", contentId, 1);
+        return id;
+    }
+
+    private void seed() {
+        // ID 는 1 부터 직접 지정하고, 끝난 뒤 시퀀스를 그 뒤로 옮긴다.
+        batchInsert("INSERT INTO user_tb(id, username, password, email, role, created_at) VALUES (?, ?, '1234', ?, 'USER', NOW())",
+                userCount, (ps, i) -> {
+                    ps.setInt(1, i + 1);
+                    ps.setString(2, "user" + i);
+                    ps.setString(3, "user" + i + "@nate.com");
+                });
+        // 본문 ID 는 게시글 ID 와 같게 넣는다.
+        batchInsert("INSERT INTO board_content_tb(id, data, compressed, original_length) VALUES (?, ?, ?, ?)",
+                scale, (ps, i) -> {
+                    BoardContent body = BoardContent.of("내용" + i);
+                    ps.setInt(1, i + 1);
+                    ps.setBytes(2, body.getData());
+                    ps.setBoolean(3, body.isCompressed());
+                    ps.setInt(4, body.getOriginalLength());
+                });
+        batchInsert("INSERT INTO board_tb(id, title, content_id, user_id, created_at) VALUES (?, ?, ?, ?, NOW())",
+                scale, (ps, i) -> {
+                    ps.setInt(1, i + 1);
+                    ps.setString(2, "제목" + i);
+                    ps.setInt(3, i + 1);
+                    ps.setInt(4, i % userCount + 1);
+                });
+        batchInsert("INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES (?, ?, ?, ?, NOW(), ?)",
+                scale * REPLIES_PER_BOARD, (ps, i) -> {
+                    ps.setInt(1, i + 1);
+                    ps.setString(2, "댓글" + i);
+                    ps.setInt(3, i / REPLIES_PER_BOARD + 1);
+                    ps.setInt(4, i % userCount + 1);
+                    ps.setString(5, i % 10 == 0 ? "DELETED" : "ACTIVE");
+                });
+        restartSequence("user_seq", userCount);
+        restartSequence("board_seq", scale);
+        restartSequence("board_content_seq", scale);
+        restartSequence("reply_seq", scale * REPLIES_PER_BOARD);
+        bean(BoardReplyCountRepairJob.class).repair();
+    }
+
+    private void restartSequence(String name, int maxId) {
+        // 다음에 받는 값 v 의 구간 (v-49 ~ v) 이 maxId 보다 뒤에 오도록 한다.
+        jdbcTemplate.execute("ALTER SEQUENCE " + name + " RESTART WITH " + (maxId + SEQUENCE_ALLOCATION));
+    }
+
+    private void batchInsert(String sql, int total, RowSetter setter) {
+        for (int start = 0; start < total; start += BATCH_SIZE) {
+            int from = start;
+            int count = Math.min(BATCH_SIZE, total - start);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setter.set(ps, from + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return count;
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int index) throws SQLException;
+    }
+}
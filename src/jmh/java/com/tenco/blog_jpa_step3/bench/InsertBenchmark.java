@@ -0,0 +1,61 @@
+package com.tenco.blog_jpa_step3.bench;
+
+import com.tenco.blog_jpa_step3.board.Board;
+import com.tenco.blog_jpa_step3.user.User;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 INSERT 처리량 벤치마크
+ * 한 트랜잭션에서 게시글 1,000건을 persist 하고 커밋합니다. (결과는 게시글 1건당 처리량)
+ *
+ * batchSize = 0  : JDBC 배치 없이 한 건씩 실행 (이전 IDENTITY 방식과 같은 왕복 횟수)
+ * batchSize = 50 : 시퀀스 pooled 할당 + hibernate.jdbc.batch_size=50
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @State(Scope.Benchmark)
+    public static class InsertState extends BlogState {
+
+        @Param({"0", "50"})
+        public int batchSize;
+
+        @Override
+        protected List<String> extraArgs() {
+            return List.of("--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void persistBoards(InsertState state) {
+        EntityManager em = state.bean(EntityManager.class);
+        state.bean(TransactionTemplate.class).executeWithoutResult(status -> {
+            User user = em.getReference(User.class, 1);
+            for (int i = 0; i < ROWS; i++) {
+                em.persist(Board.builder()
+                        .title("배치 제목" + i)
+                        .content("배치 내용" + i)
+                        .user(user)
+                        .build());
+            }
+            em.flush();
+            em.clear();
+        });
+    }
+}
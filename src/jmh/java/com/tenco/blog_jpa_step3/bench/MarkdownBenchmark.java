@@ -0,0 +1,64 @@
+package com.tenco.blog_jpa_step3.bench;
+
+import com.tenco.blog_jpa_step3.commom.markdown.MarkdownRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 본문 Markdown 변환 비용 벤치마크 (DB 조회 제외)
+ *
+ * - render_on_read : 조회할 때마다 Markdown 을 파싱해 HTML 생성
+ * - render_cached  : 본문 해시로 캐시된 HTML 재사용 (게시글 상세 스냅샷 생성 방식, 해시 계산 비용 포함)
+ *
+ * paragraphs 는 본문 크기 (문단 하나에 제목/목록/링크/코드가 섞인 약 400자)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MarkdownBenchmark -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarkdownBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Contents {
+        @Param({"1", "10", "100"})
+        int paragraphs;
+
+        MarkdownRenderer renderer;
+        String markdown;
+
+        @Setup(Level.Trial)
+        public void setUp(BlogState state) {
+            renderer = state.bean(MarkdownRenderer.class);
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < paragraphs; i++) {
+                sb.append("## 문단 ").append(i).append("\n\n")
+                        .append("Spring Boot 와 **JPA** 로 만든 블로그의 본문입니다. _강조_ 와 `코드` 가 섞여 있고,\n")
+                        .append("[참고 링크](https://example.com/docs/").append(i).append(") 도 있습니다. <script>alert(1)</script>\n\n")
+                        .append("- 첫 번째 항목\n- 두 번째 항목\n- 세 번째 항목\n\n")
+                        .append("> 인용문 ").append(i).append("\n\n")
+                        .append("```java\nSystem.out.println(\"hello ").append(i).append("\");\n```\n\n");
+            }
+            markdown = sb.toString();
+            renderer.renderCached(markdown); // 캐시 예열
+        }
+    }
+
+    @Benchmark
+    public String render_on_read(Contents contents) {
+        return contents.renderer.render(contents.markdown);
+    }
+
+    @Benchmark
+    public String render_cached(Contents contents) {
+        return contents.renderer.renderCached(contents.markdown);
+    }
+}
@@ -0,0 +1,83 @@
+package com.tenco.blog_jpa_step3.bench;
+
+import com.tenco.blog_jpa_step3.board.Board;
+import com.tenco.blog_jpa_step3.board.BoardDTO;
+import com.tenco.blog_jpa_step3.board.BoardJPARepository;
+import com.tenco.blog_jpa_step3.board.BoardListDTO;
+import com.tenco.blog_jpa_step3.commom.markdown.MarkdownRenderer;
+import com.tenco.blog_jpa_step3.reply.ReplyDTO;
+import com.tenco.blog_jpa_step3.reply.ReplyService;
+import com.tenco.blog_jpa_step3.user.User;
+import com.tenco.blog_jpa_step3.user.UserJPARepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 경로를 읽기-쓰기 트랜잭션 / 읽기 전용 트랜잭션으로 실행했을 때의 비교
+ *
+ * readOnly = true 이면 Spring 이 Hibernate 세션을 FlushMode.MANUAL + setDefaultReadOnly(true) 로 시작하므로
+ * 읽어온 엔티티의 스냅샷(dirty checking 용 복사본)을 만들지 않고, 커밋 시 flush 도 하지 않습니다.
+ * 할당량 비교는 GC 프로파일러와 함께 실행합니다.
+ *
+ * ./gradlew jmh -PjmhIncludes=ReadOnlyBenchmark -PjmhProfilers=gc
+ *
+ * - detail : 게시글 상세 스냅샷 로딩 (BoardService 캐시 미스 경로와 동일: 게시글+작성자, 댓글 첫 페이지+작성자)
+ * - index  : 메인 화면 한 페이지 (DTO 프로젝션)
+ * - user   : 회원 정보 조회 (UserService.readUser 와 동일)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadOnlyBenchmark {
+
+    @State(Scope.Thread)
+    public static class Tx {
+
+        @Param({"false", "true"})
+        public boolean readOnly;
+
+        TransactionTemplate template;
+
+        @Setup(Level.Trial)
+        public void setUp(BlogState state) {
+            template = new TransactionTemplate(state.bean(PlatformTransactionManager.class));
+            template.setReadOnly(readOnly);
+        }
+    }
+
+    @Benchmark
+    public BoardDTO.SnapshotDTO detail(BlogState state, Tx tx) {
+        int boardId = state.randomBoardId();
+        return tx.template.execute(status -> {
+            Board board = state.bean(BoardJPARepository.class).findByIdJoinUser(boardId).orElseThrow();
+            ReplyDTO.PageDTO replyPage = state.bean(ReplyService.class).getReplyPage(boardId, null);
+            return new BoardDTO.SnapshotDTO(board, replyPage,
+                    state.bean(MarkdownRenderer.class).renderCached(board.getContent()));
+        });
+    }
+
+    @Benchmark
+    public List<BoardListDTO> index(BlogState state, Tx tx) {
+        int cursor = state.randomBoardId();
+        return tx.template.execute(status ->
+                state.bean(BoardJPARepository.class).findPageBefore(cursor, PageRequest.of(0, 11)));
+    }
+
+    @Benchmark
+    public User user(BlogState state, Tx tx) {
+        int userId = 1 + (state.randomBoardId() % state.userCount);
+        return tx.template.execute(status -> state.bean(UserJPARepository.class).findById(userId).orElseThrow());
+    }
+}
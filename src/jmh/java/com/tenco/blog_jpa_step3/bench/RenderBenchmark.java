@@ -0,0 +1,140 @@
+package com.tenco.blog_jpa_step3.bench;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import com.tenco.blog_jpa_step3.board.BoardDTO;
+import com.tenco.blog_jpa_step3.board.BoardService;
+import com.tenco.blog_jpa_step3.commom.view.PrecompiledMustacheViewResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.mustache.MustacheProperties;
+import org.springframework.core.io.Resource;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mustache 렌더링 비용 벤치마크 (DB 조회 제외)
+ * 모델은 미리 서비스에서 만들어 두고, HTML 만 생성합니다.
+ *
+ * - render_*              : 컴파일된 템플릿 + StringWriter 로 문자열 생성
+ * - render_*_compile_each : 요청마다 템플릿 파일을 읽어 컴파일 (스프링 부트 기본 MustacheView 방식, 부분 템플릿도 매번 컴파일)
+ * - render_*_precompiled  : PrecompiledMustacheViewResolver 의 미리 컴파일/예열된 템플릿 + 재사용 버퍼에 바로 쓰기 (운영 모드)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RenderBenchmark -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RenderBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Views {
+        Mustache.Compiler compiler;
+        Template index;
+        Template detail;
+        Template precompiledIndex;
+        Template precompiledDetail;
+        Resource indexResource;
+        Resource detailResource;
+        Map<String, Object> indexModel = new HashMap<>();
+        Map<String, Object> detailModel = new HashMap<>();
+
+        @Setup(Level.Trial)
+        public void setUp(BlogState state) throws Exception {
+            compiler = state.bean(Mustache.Compiler.class);
+            index = compiler.loadTemplate("index");
+            detail = compiler.loadTemplate("board/detail");
+
+            MustacheProperties properties = state.bean(MustacheProperties.class);
+            indexResource = state.context.getResource(properties.getPrefix() + "index" + properties.getSuffix());
+            detailResource = state.context.getResource(properties.getPrefix() + "board/detail" + properties.getSuffix());
+            PrecompiledMustacheViewResolver resolver = new PrecompiledMustacheViewResolver(compiler, state.context,
+                    properties.getPrefix(), properties.getSuffix(), properties.getCharset());
+            precompiledIndex = resolver.getTemplate("index");
+            precompiledDetail = resolver.getTemplate("board/detail");
+
+            BoardService boardService = state.bean(BoardService.class);
+            BoardDTO.PageDTO page = boardService.getBoardPage(null, null);
+            indexModel.put("boardList", page.getBoardList());
+            indexModel.put("page", page);
+
+            BoardDTO.DetailDTO board = boardService.getBoardDetails(1, null);
+            detailModel.put("isOwner", board.isOwner());
+            detailModel.put("board", board.getBoard());
+            detailModel.put("boardId", 1);
+            detailModel.put("replies", board.getReplies());
+            detailModel.put("replyPage", board.getBoard().getReplyPage());
+        }
+
+        Template compile(Resource resource) {
+            try (Reader reader = new InputStreamReader(resource.getInputStream(), "UTF-8")) {
+                return compiler.compile(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 스레드별 재사용 출력 버퍼 (응답 버퍼 역할)
+     */
+    @State(Scope.Thread)
+    public static class Output {
+        CharArrayWriter buffer = new CharArrayWriter(32 * 1024);
+    }
+
+    @Benchmark
+    public String render_index(Views views) {
+        StringWriter writer = new StringWriter();
+        views.index.execute(views.indexModel, writer);
+        return writer.toString();
+    }
+
+    @Benchmark
+    public String render_detail(Views views) {
+        StringWriter writer = new StringWriter();
+        views.detail.execute(views.detailModel, writer);
+        return writer.toString();
+    }
+
+    @Benchmark
+    public int render_index_compile_each(Views views, Output output) {
+        output.buffer.reset();
+        views.compile(views.indexResource).execute(views.indexModel, output.buffer);
+        return output.buffer.size();
+    }
+
+    @Benchmark
+    public int render_detail_compile_each(Views views, Output output) {
+        output.buffer.reset();
+        views.compile(views.detailResource).execute(views.detailModel, output.buffer);
+        return output.buffer.size();
+    }
+
+    @Benchmark
+    public int render_index_precompiled(Views views, Output output) {
+        output.buffer.reset();
+        views.precompiledIndex.execute(views.indexModel, output.buffer);
+        return output.buffer.size();
+    }
+
+    @Benchmark
+    public int render_detail_precompiled(Views views, Output output) {
+        output.buffer.reset();
+        views.precompiledDetail.execute(views.detailModel, output.buffer);
+        return output.buffer.size();
+    }
+}
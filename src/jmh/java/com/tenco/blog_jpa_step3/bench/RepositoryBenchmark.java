@@ -0,0 +1,189 @@
+package com.tenco.blog_jpa_step3.bench;
+
+import com.tenco.blog_jpa_step3.board.Board;
+import com.tenco.blog_jpa_step3.board.BoardJPARepository;
+import com.tenco.blog_jpa_step3.board.BoardNativeRepository;
+import com.tenco.blog_jpa_step3.board.BoardRepository;
+import com.tenco.blog_jpa_step3.board.BoardService;
+import com.tenco.blog_jpa_step3.user.User;
+import com.tenco.blog_jpa_step3.user.UserJPARepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 작업을 세 가지 레포지토리로 수행했을 때의 비용 비교
+ * - BoardRepository       : EntityManager 직접 사용 (JPQL / em.find / em.persist)
+ * - BoardNativeRepository : 네이티브 SQL
+ * - BoardJPARepository    : Spring Data JPA
+ *
+ * 세 방식 모두 같은 쿼리를 비교합니다. 목록(list)은 메인 화면과 같은 키셋 페이지 한 장(임의의 커서)입니다.
+ * 빈 조회 / 사용자 참조는 측정 밖(@Setup)에서 한 번만 준비하고,
+ * 저장(save) 벤치마크가 추가한 게시글은 매 iteration 이 끝날 때 지워서 테이블 크기를 시드 규모로 유지합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryBenchmark {
+
+    /**
+     * 레포지토리 빈과 작성자 참조 (측정 밖에서 한 번만 준비)
+     */
+    @State(Scope.Benchmark)
+    public static class Repos {
+        BlogState state;
+        BoardRepository entityManager;
+        BoardNativeRepository nativeSql;
+        BoardJPARepository springData;
+        TransactionTemplate tx;
+        User author;
+
+        @Setup(Level.Trial)
+        public void setUp(BlogState state) {
+            this.state = state;
+            entityManager = state.bean(BoardRepository.class);
+            nativeSql = state.bean(BoardNativeRepository.class);
+            springData = state.bean(BoardJPARepository.class);
+            tx = state.bean(TransactionTemplate.class);
+            // 초기화되지 않은 프록시 - 저장 시 작성자 ID 만 사용한다.
+            author = state.bean(UserJPARepository.class).getReferenceById(1);
+        }
+
+        /**
+         * 저장 벤치마크가 추가한 게시글(시드 범위 밖 ID)과 본문을 지운다. (본문은 게시글이 참조하므로 나중에)
+         */
+        @TearDown(Level.Iteration)
+        public void removeSavedBoards() {
+            state.jdbcTemplate.update("DELETE FROM board_tb WHERE id > ?", state.scale);
+            state.jdbcTemplate.update("DELETE FROM board_content_tb WHERE id > ?", state.scale);
+            state.bean(EntityManagerFactory.class).getCache().evictAll();
+        }
+    }
+
+    /**
+     * 삭제 벤치마크용 - 매 호출 전에 댓글 없는 게시글을 하나 만들어 둔다. (측정 시간에서 제외)
+     */
+    @State(Scope.Thread)
+    public static class DeleteTarget {
+        int boardId;
+
+        @Setup(Level.Invocation)
+        public void setUp(BlogState state) {
+            boardId = state.insertBoard();
+        }
+    }
+
+    // ---------- find by id ----------
+
+    @Benchmark
+    public Board findById_entityManager(Repos repos) {
+        return repos.entityManager.findById(repos.state.randomBoardId());
+    }
+
+    @Benchmark
+    public Board findById_native(Repos repos) {
+        return repos.nativeSql.findById(repos.state.randomBoardId());
+    }
+
+    @Benchmark
+    public Object findById_springData(Repos repos) {
+        return repos.springData.findById(repos.state.randomBoardId()).orElse(null);
+    }
+
+    // ---------- list (키셋 페이지 한 장) ----------
+
+    @Benchmark
+    public void list_entityManager_keysetPage(Repos repos, Blackhole bh) {
+        bh.consume(repos.entityManager.findPageBefore(repos.state.randomBoardId(), BoardService.PAGE_SIZE));
+    }
+
+    @Benchmark
+    public void list_native_keysetPage(Repos repos, Blackhole bh) {
+        bh.consume(repos.nativeSql.findPageBefore(repos.state.randomBoardId(), BoardService.PAGE_SIZE));
+    }
+
+    @Benchmark
+    public void list_springData_keysetPage(Repos repos, Blackhole bh) {
+        bh.consume(repos.springData.findPageBefore(repos.state.randomBoardId(), PageRequest.of(0, BoardService.PAGE_SIZE)));
+    }
+
+    // ---------- save ----------
+
+    @Benchmark
+    public Board save_entityManager(Repos repos) {
+        return repos.entityManager.save(newBoard(repos.author));
+    }
+
+    @Benchmark
+    public void save_native(Repos repos) {
+        repos.nativeSql.save("벤치마크 제목", "벤치마크 내용");
+    }
+
+    @Benchmark
+    public Board save_springData(Repos repos) {
+        return repos.springData.save(newBoard(repos.author));
+    }
+
+    // ---------- update ----------
+
+    @Benchmark
+    public void update_entityManager_jpql(Repos repos) {
+        repos.entityManager.updateByIdJPQL(repos.state.randomBoardId(), "수정 제목", "수정 내용", null);
+    }
+
+    @Benchmark
+    public void update_entityManager_dirtyChecking(Repos repos) {
+        repos.entityManager.updateByIdJPA(repos.state.randomBoardId(), "수정 제목", "수정 내용", null);
+    }
+
+    @Benchmark
+    public void update_native(Repos repos) {
+        repos.nativeSql.updateById(repos.state.randomBoardId(), "수정 제목", "수정 내용");
+    }
+
+    @Benchmark
+    public void update_springData(Repos repos) {
+        int id = repos.state.randomBoardId();
+        repos.tx.executeWithoutResult(status ->
+                repos.springData.findById(id).ifPresent(board -> {
+                    board.setTitle("수정 제목");
+                    board.setContent("수정 내용");
+                }));
+    }
+
+    // ---------- delete ----------
+
+    @Benchmark
+    public void delete_entityManager(Repos repos, DeleteTarget target) {
+        repos.entityManager.deleteById(target.boardId);
+    }
+
+    @Benchmark
+    public void delete_native(Repos repos, DeleteTarget target) {
+        repos.nativeSql.deleteById(target.boardId);
+    }
+
+    @Benchmark
+    public void delete_springData(Repos repos, DeleteTarget target) {
+        repos.springData.deleteById(target.boardId);
+    }
+
+    private static Board newBoard(User user) {
+        return Board.builder()
+                .title("벤치마크 제목")
+                .content("벤치마크 내용")
+                .user(user)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.tenco.blog_jpa_step3.bench;
+
+import com.tenco.blog_jpa_step3.board.BoardDTO;
+import com.tenco.blog_jpa_step3.board.BoardDetailCache;
+import com.tenco.blog_jpa_step3.board.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BoardService 의 읽기 경로 벤치마크
+ * - getBoardDetails_cold : 매번 캐시를 비우고 DB 에서 스냅샷을 만드는 비용
+ * - getBoardDetails_warm : 캐시 적중 시 비용 (스냅샷 + 사용자별 값 계산)
+ * - getBoardPage         : 메인 화면 한 페이지 (키셋 + 프로젝션)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+
+    @Benchmark
+    public BoardDTO.DetailDTO getBoardDetails_cold(BlogState state) {
+        int id = state.randomBoardId();
+        state.bean(BoardDetailCache.class).invalidate(id);
+        return state.bean(BoardService.class).getBoardDetails(id, null);
+    }
+
+    @Benchmark
+    public BoardDTO.DetailDTO getBoardDetails_warm(BlogState state) {
+        return state.bean(BoardService.class).getBoardDetails(1, null);
+    }
+
+    @Benchmark
+    public BoardDTO.PageDTO getBoardPage(BlogState state) {
+        return state.bean(BoardService.class).getBoardPage(state.randomBoardId(), null);
+    }
+}
@@ -2,7 +2,9 @@ package com.tenco.blog_jpa_step3;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling // 조회수 반영 등 주기 작업(@Scheduled) 활성화
 @SpringBootApplication
 public class BlogJpaStep1Application {
 
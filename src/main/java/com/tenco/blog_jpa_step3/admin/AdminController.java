@@ -0,0 +1,182 @@
+package com.tenco.blog_jpa_step3.admin;
+
+import com.tenco.blog_jpa_step3.board.BoardDetailCache;
+import com.tenco.blog_jpa_step3.board.BoardReplyCountRepairJob;
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
+import com.tenco.blog_jpa_step3.commom.cache.SecondLevelCacheStats;
+import com.tenco.blog_jpa_step3.commom.errors.Exception400;
+import com.tenco.blog_jpa_step3.commom.errors.Exception404;
+import com.tenco.blog_jpa_step3.commom.markdown.MarkdownRenderer;
+import com.tenco.blog_jpa_step3.commom.metrics.RequestMetrics;
+import com.tenco.blog_jpa_step3.exports.BoardExportService;
+import com.tenco.blog_jpa_step3.imports.BoardImportService;
+import com.tenco.blog_jpa_step3.search.BoardSearchIndex;
+import com.tenco.blog_jpa_step3.user.User;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * AdminController는 운영/관리용 HTTP 요청을 처리하는 컨트롤러 클래스입니다.
+ * /admin/** 경로는 AdminInterceptor 에 의해 관리자만 접근할 수 있습니다.
+ */
+@RequiredArgsConstructor
+@Controller
+public class AdminController {
+
+    private final BoardDetailCache boardDetailCache;
+    private final BoardReplyCountRepairJob boardReplyCountRepairJob;
+    private final BoardSearchIndex boardSearchIndex;
+    private final RequestMetrics requestMetrics;
+    private final BoardImportService boardImportService;
+    private final BoardExportService boardExportService;
+    private final SecondLevelCacheStats secondLevelCacheStats;
+    private final PageCache pageCache;
+    private final MarkdownRenderer markdownRenderer;
+
+    /**
+     * 라우트(핸들러 메서드)별 지연 시간 통계 조회
+     * 요청 주소: **GET http://localhost:8080/admin/metrics**
+     *
+     * @return 라우트별 요청 수, 처리량, 컨트롤러/뷰 렌더링 시간의 p50/p99/p999 (JSON)
+     */
+    @GetMapping("/admin/metrics")
+    @ResponseBody
+    public Map<String, Object> metrics() {
+        return requestMetrics.summary();
+    }
+
+    /**
+     * 캐시 통계 조회
+     * 요청 주소: **GET http://localhost:8080/admin/cache**
+     *
+     * @return 캐시별 hit / miss / eviction 카운터, Hibernate 2차 캐시 영역별 hit ratio (JSON)
+     */
+    @GetMapping("/admin/cache")
+    @ResponseBody
+    public Map<String, Object> cache() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("page", pageCache.stats());
+        result.put("boardDetail", boardDetailCache.stats());
+        result.put("boardSearch", boardSearchIndex.stats());
+        result.put("markdown", markdownRenderer.stats());
+        result.put("secondLevel", secondLevelCacheStats.stats());
+        return result;
+    }
+
+    /**
+     * 게시글 댓글 수 보정 작업 즉시 실행
+     * 요청 주소: **POST http://localhost:8080/admin/reply-count/repair**
+     *
+     * @return 재계산된 게시글 수 (JSON)
+     */
+    @PostMapping("/admin/reply-count/repair")
+    @ResponseBody
+    public Map<String, Object> repairReplyCount() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("repaired", boardReplyCountRepairJob.repair());
+        return result;
+    }
+
+    /**
+     * 게시글 대량 가져오기
+     * 요청 주소: **POST http://localhost:8080/admin/import/boards?jobId=migration-1**
+     * 요청 본문: NDJSON (Content-Type: application/x-ndjson) 또는 CSV (Content-Type: text/csv)
+     *
+     * 본문은 multipart 가 아니라 원본 그대로 스트림으로 읽습니다. (전체를 메모리에 올리지 않음)
+     * 중간에 실패하면 같은 jobId 로 같은 파일을 다시 보내면 마지막으로 커밋된 배치 다음부터 이어서 진행합니다.
+     *
+     * @param jobId 작업 ID
+     * @param format ndjson 또는 csv (생략 시 Content-Type 으로 판단)
+     * @return 처리 결과 (저장/건너뛴 행 수, 초당 처리 행 수)
+     */
+    @PostMapping("/admin/import/boards")
+    @ResponseBody
+    public Map<String, Object> importBoards(@RequestParam("jobId") String jobId,
+                                            @RequestParam(value = "format", required = false) String format,
+                                            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                            InputStream body,
+                                            HttpSession session) throws IOException {
+        if (format == null) {
+            format = contentType != null && contentType.contains("csv") ? "csv" : "ndjson";
+        }
+        User sessionUser = (User) session.getAttribute("sessionUser");
+        return boardImportService.importBoards(jobId, format, body, sessionUser);
+    }
+
+    /**
+     * 게시글 가져오기 진행 상황 조회
+     * 요청 주소: **GET http://localhost:8080/admin/import/{jobId}**
+     *
+     * @return 커밋된 행 수, 저장/건너뛴 행 수, (진행 중이면) 경과 시간과 초당 처리 행 수
+     */
+    @GetMapping("/admin/import/{jobId}")
+    @ResponseBody
+    public Map<String, Object> importProgress(@PathVariable("jobId") String jobId) {
+        return boardImportService.getProgress(jobId);
+    }
+
+    /**
+     * 게시글 / 댓글 전체 내보내기
+     * 요청 주소: **GET http://localhost:8080/admin/export/boards?format=csv&gzip=true**
+     *
+     * 결과를 메모리에 모으지 않고 DB 커서에서 읽는 즉시 응답으로 씁니다. (StreamingResponseBody)
+     * gzip=true 이면 압축하면서 내려보내고 파일 이름에 .gz 가 붙습니다.
+     *
+     * @param target boards 또는 replies
+     * @param format ndjson(기본) 또는 csv
+     * @param gzip 압축 여부
+     * @return 파일 다운로드 응답
+     */
+    @GetMapping("/admin/export/{target}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable("target") String target,
+                                                        @RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                                        @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        if (!"boards".equals(target) && !"replies".equals(target)) {
+            throw new Exception404("내보낼 수 없는 대상입니다: " + target);
+        }
+        // 응답 본문은 헤더를 보낸 뒤 비동기로 쓰이므로 형식 오류는 여기서 400 으로 막는다. (본문에서 던지면 200 으로 나간 뒤 끊김)
+        String extension = format.toLowerCase(Locale.ROOT);
+        if (!"csv".equals(extension) && !"ndjson".equals(extension)) {
+            throw new Exception400("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+        String filename = target + "." + extension + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : "csv".equals(extension) ? MediaType.parseMediaType("text/csv; charset=UTF-8")
+                : MediaType.parseMediaType("application/x-ndjson");
+
+        StreamingResponseBody body = out -> {
+            OutputStream stream = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+            if ("boards".equals(target)) {
+                boardExportService.exportBoards(extension, stream);
+            } else {
+                boardExportService.exportReplies(extension, stream);
+            }
+            if (stream instanceof GZIPOutputStream gzipOut) {
+                gzipOut.finish();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,61 @@
+package com.tenco.blog_jpa_step3.attachment;
+
+import com.tenco.blog_jpa_step3.board.Board;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 첨부파일 메타데이터 (attachment_tb)
+ *
+ * 파일 내용은 DB 가 아니라 AttachmentStore(디스크)에 SHA-256 해시 이름으로 저장하고, 이 테이블은 해시만 참조합니다.
+ * 같은 내용의 파일은 게시글이 달라도 디스크에 한 번만 저장됩니다. (hash 는 유일하지 않음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+// 2차 캐시 - 첨부파일은 수정하지 않으므로(추가/삭제만) READ_ONLY, 다운로드 요청은 SQL 없이 메타데이터를 찾는다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "attachment")
+@Table(name = "attachment_tb", indexes = {
+        @Index(name = "idx_attachment_board_id", columnList = "board_id, id"),
+        @Index(name = "idx_attachment_hash", columnList = "hash") // 파일 정리 시 참조 여부 확인
+})
+@ToString(exclude = "board")
+public class Attachment {
+
+    @Id
+    // 시퀀스 pooled 할당 (여러 파일을 한번에 올릴 때 JDBC 배치 INSERT)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attachment_seq")
+    @SequenceGenerator(name = "attachment_seq", sequenceName = "attachment_seq", allocationSize = 50)
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = false)
+    private Board board;
+
+    // 파일 내용의 SHA-256 (16진수 64자) - 저장소 파일 이름이자 다운로드 ETag
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    // 업로드할 때의 원래 파일 이름 (다운로드 시 Content-Disposition)
+    @Column(nullable = false)
+    private String filename;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private long size;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private Timestamp createdAt;
+}
@@ -0,0 +1,130 @@
+package com.tenco.blog_jpa_step3.attachment;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 더 이상 참조되지 않는 첨부파일을 디스크에서 지우는 백그라운드 작업입니다.
+ *
+ * 게시글 삭제 요청은 파일 삭제를 기다리지 않고, 커밋 후 해시 목록만 전용 스레드에 넘깁니다.
+ * 스레드는 해시마다
+ * - 다른 첨부파일이 아직 참조하면(중복 제거로 공유 중) 그대로 두고,
+ * - 마지막으로 쓰인 지 grace 시간이 지나지 않았으면(방금 같은 파일이 다시 업로드되어 커밋 전일 수 있음) 그만큼 뒤에 다시 확인하고,
+ * - 그 외에는 파일을 삭제합니다.
+ */
+@Slf4j
+@Component
+public class AttachmentCleaner {
+
+    private final AttachmentJPARepository attachmentJPARepository;
+    private final AttachmentStore attachmentStore;
+    private final TransactionTemplate transactionTemplate;
+    private final long graceMillis;
+    private final ScheduledExecutorService executor;
+
+    private final LongAdder deletedCount = new LongAdder();
+    private final LongAdder sharedCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+
+    public AttachmentCleaner(AttachmentJPARepository attachmentJPARepository,
+                             AttachmentStore attachmentStore,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${blog.attachment.cleanup-grace-ms:600000}") long graceMillis) {
+        this.attachmentJPARepository = attachmentJPARepository;
+        this.attachmentStore = attachmentStore;
+        this.transactionTemplate = transactionTemplate;
+        this.graceMillis = graceMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "attachment-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 파일 정리를 예약합니다. (트랜잭션 밖이면 바로 예약)
+     * 롤백되면 아무것도 하지 않습니다.
+     *
+     * @param hashes 참조가 사라졌을 수 있는 파일 해시
+     */
+    public void cleanupAfterCommit(Collection<String> hashes) {
+        if (hashes.isEmpty()) {
+            return;
+        }
+        Set<String> targets = Set.copyOf(hashes);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cleanup(targets);
+                }
+            });
+        } else {
+            cleanup(targets);
+        }
+    }
+
+    /**
+     * 파일 정리를 백그라운드 스레드에 넘깁니다.
+     *
+     * @param hashes 참조가 사라졌을 수 있는 파일 해시
+     */
+    public void cleanup(Collection<String> hashes) {
+        for (String hash : hashes) {
+            executor.execute(() -> check(hash));
+        }
+    }
+
+    private void check(String hash) {
+        try {
+            // 복제 DB 지연으로 삭제 전 상태를 읽지 않도록 읽기-쓰기 트랜잭션(원본 DB)에서 확인
+            Boolean referenced = transactionTemplate.execute(status -> attachmentJPARepository.existsByHash(hash));
+            if (Boolean.TRUE.equals(referenced)) {
+                sharedCount.increment();
+                return;
+            }
+            long waitMillis = attachmentStore.deleteIfIdle(hash, graceMillis);
+            if (waitMillis > 0) {
+                retryCount.increment();
+                executor.schedule(() -> check(hash), waitMillis, TimeUnit.MILLISECONDS);
+                return;
+            }
+            deletedCount.increment();
+            log.debug("첨부파일 삭제: {}", hash);
+        } catch (Exception e) {
+            // 실패한 파일은 남겨둔다. (참조 없는 파일이 남을 뿐 데이터는 손상되지 않음)
+            log.warn("첨부파일 정리 실패: {} - {}", hash, e.getMessage());
+        }
+    }
+
+    /**
+     * 정리 작업 통계 (관리자 화면 노출용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("deletedCount", deletedCount.sum());
+        result.put("sharedCount", sharedCount.sum());
+        result.put("retryCount", retryCount.sum());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 예약된 재확인은 버린다. (다음에 같은 해시가 정리될 때 함께 지워지거나 파일만 남음)
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,67 @@
+package com.tenco.blog_jpa_step3.attachment;
+
+import com.tenco.blog_jpa_step3.user.User;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * AttachmentController는 게시글 첨부파일 업로드 / 다운로드 요청을 처리하는 컨트롤러 클래스입니다.
+ */
+@RequiredArgsConstructor
+@Controller
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+
+    /**
+     * 첨부파일 업로드 (게시글 작성자만)
+     * 요청 주소: **POST http://localhost:8080/board/{boardId}/attachments** (multipart/form-data, files)
+     *
+     * multipart 파트는 서블릿 컨테이너가 디스크 임시 파일로 받고(spring.servlet.multipart),
+     * 저장소로는 스트림 그대로 옮기므로 파일 크기만큼 힙을 쓰지 않습니다.
+     *
+     * @param boardId 게시글 ID
+     * @param files   업로드 파일 (여러 개 가능)
+     * @param session HTTP 세션 객체
+     * @return 게시글 상세보기 페이지로 리다이렉트
+     */
+    @PostMapping("/board/{boardId}/attachments")
+    public String upload(@PathVariable(name = "boardId") Integer boardId,
+                         @RequestParam(name = "files", required = false) List<MultipartFile> files,
+                         HttpSession session) throws IOException {
+        User sessionUser = (User) session.getAttribute("sessionUser");
+        if (sessionUser == null) {
+            return "redirect:/login-form";
+        }
+        attachmentService.upload(boardId, sessionUser.getId(), files);
+        return "redirect:/board/" + boardId;
+    }
+
+    /**
+     * 첨부파일 다운로드 (비로그인 사용자도 가능)
+     * 요청 주소: **GET http://localhost:8080/board/{boardId}/attachments/{attachmentId}**
+     * Range(범위 하나) / If-Range, ETag(파일 해시) 조건부 요청을 지원합니다.
+     *
+     * @param boardId      게시글 ID
+     * @param attachmentId 첨부파일 ID
+     */
+    @GetMapping("/board/{boardId}/attachments/{attachmentId}")
+    public void download(@PathVariable(name = "boardId") Integer boardId,
+                         @PathVariable(name = "attachmentId") Integer attachmentId,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        Attachment attachment = attachmentService.getAttachment(boardId, attachmentId);
+        AttachmentResponses.write(request, response, attachment, attachmentService.path(attachment));
+    }
+}
@@ -0,0 +1,37 @@
+package com.tenco.blog_jpa_step3.attachment;
+
+import lombok.Getter;
+
+public class AttachmentDTO {
+
+    /**
+     * 게시글 상세 화면의 첨부파일 한 건
+     * 게시글 상세 스냅샷(BoardDetailCache)에 함께 저장되므로 불변 값으로 복사해 둔다.
+     */
+    @Getter
+    public static class ViewDTO {
+        private final Integer id;
+        private final String filename;
+        private final long size;
+        private final String displaySize; // 화면 출력용 (예: 1.5 MB)
+        private final String url;
+
+        public ViewDTO(Attachment attachment, int boardId) {
+            this.id = attachment.getId();
+            this.filename = attachment.getFilename();
+            this.size = attachment.getSize();
+            this.displaySize = displaySize(attachment.getSize());
+            this.url = "/board/" + boardId + "/attachments/" + attachment.getId();
+        }
+
+        private static String displaySize(long bytes) {
+            if (bytes < 1024) {
+                return bytes + " B";
+            }
+            if (bytes < 1024 * 1024) {
+                return String.format("%.1f KB", bytes / 1024.0);
+            }
+            return String.format("%.1f MB", bytes / (1024.0 * 1024));
+        }
+    }
+}
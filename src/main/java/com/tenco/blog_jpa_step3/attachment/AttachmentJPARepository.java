@@ -0,0 +1,15 @@
+package com.tenco.blog_jpa_step3.attachment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AttachmentJPARepository extends JpaRepository<Attachment, Integer> {
+
+    /**
+     * 해당 해시의 파일을 참조하는 첨부파일이 하나라도 있는지 확인 (파일 정리 전 확인용)
+     * attachment_tb(hash) 인덱스만 확인하고 첫 행에서 끝난다.
+     *
+     * @param hash 파일 SHA-256
+     * @return 참조가 있으면 true
+     */
+    boolean existsByHash(String hash);
+}
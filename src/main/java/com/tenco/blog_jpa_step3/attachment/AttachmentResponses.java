@@ -0,0 +1,149 @@
+package com.tenco.blog_jpa_step3.attachment;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 첨부파일 다운로드 응답 작성 (AttachmentController 전용)
+ *
+ * - 내용 주소 방식이라 같은 주소의 내용은 바뀌지 않으므로 ETag 는 파일 해시, 캐시는 1년 + immutable 로 응답합니다.
+ * - Range 요청은 범위 하나만 지원합니다. (여러 범위는 RFC 대로 무시하고 전체 응답)
+ *   If-Range 가 현재 ETag / Last-Modified 와 다르면 Range 를 무시합니다.
+ * - 본문은 Tomcat 이 sendfile 을 지원하면(NIO 커넥터 기본값) 요청 속성으로 파일 경로/범위만 넘겨
+ *   커널이 파일을 소켓으로 바로 보내게 합니다. (사용자 영역 복사 없음)
+ *   지원하지 않는 환경(MockMvc, 작은 파일 등)에서는 FileChannel.transferTo 로 응답 스트림에 씁니다.
+ *   이때 대상이 소켓 채널이 아니므로 JDK 가 작은 버퍼를 거쳐 복사합니다. (파일 전체를 힙에 올리지는 않음)
+ */
+@Slf4j
+class AttachmentResponses {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // 브라우저에서 바로 보여줘도 안전한 형식 (그 외에는 항상 다운로드)
+    private static final Set<String> INLINE_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+    private static final long TRANSFER_CHUNK = 8 * 1024 * 1024;
+
+    // Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants 와 같은 이름)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 이보다 작은 파일은 sendfile 준비 비용이 더 크므로 그냥 쓴다. (Tomcat DefaultServlet 기본값과 같음)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private AttachmentResponses() {
+    }
+
+    static void write(HttpServletRequest request, HttpServletResponse response,
+                      Attachment attachment, Path path) throws IOException {
+        long length = attachment.getSize();
+        String etag = "\"" + attachment.getHash() + "\"";
+        long lastModified = attachment.getCreatedAt() == null ? -1 : attachment.getCreatedAt().getTime();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        // ETag / Last-Modified 설정 + If-None-Match / If-Modified-Since 비교 (같으면 304)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && length > 0 && ifRangeMatches(request, etag, lastModified)) {
+            HttpRange single = singleRange(range);
+            if (single != null) {
+                start = single.getRangeStart(length);
+                end = single.getRangeEnd(length);
+                if (start >= length || start > end) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        boolean inline = INLINE_TYPES.contains(attachment.getContentType());
+        response.setContentType(attachment.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.builder(inline ? "inline" : "attachment")
+                        .filename(attachment.getFilename(), StandardCharsets.UTF_8)
+                        .build().toString());
+        response.setContentLengthLong(end - start + 1);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (end - start + 1 >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 응답 본문은 Tomcat 이 요청 처리가 끝난 뒤 sendfile 로 보낸다. (end 는 포함하지 않는 위치)
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, Math.min(remaining, TRANSFER_CHUNK), out);
+                if (sent <= 0) {
+                    break; // 파일이 메타데이터보다 짧음 (정상이라면 일어나지 않음)
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (IOException e) {
+            if (!response.isCommitted()) {
+                throw e;
+            }
+            // 이미 보내는 중 - 클라이언트가 연결을 끊은 경우 (동영상 탐색, 다운로드 취소 등)
+            log.debug("첨부파일 전송 중단: {} - {}", attachment.getId(), e.getMessage());
+        }
+    }
+
+    // Range 헤더가 범위 하나로 된 올바른 형식이면 그 범위, 아니면 null (전체 응답)
+    private static HttpRange singleRange(String header) {
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // 강한 비교 - 약한 ETag 는 항상 불일치
+            return ifRange.equals(etag);
+        }
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return lastModified >= 0 && lastModified / 1000 == date / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.tenco.blog_jpa_step3.attachment;
+
+import com.tenco.blog_jpa_step3.board.Board;
+import com.tenco.blog_jpa_step3.board.BoardCounterRepository;
+import com.tenco.blog_jpa_step3.board.BoardDetailCache;
+import com.tenco.blog_jpa_step3.board.BoardJPARepository;
+import com.tenco.blog_jpa_step3.board.BoardPageTags;
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
+import com.tenco.blog_jpa_step3.commom.errors.Exception400;
+import com.tenco.blog_jpa_step3.commom.errors.Exception403;
+import com.tenco.blog_jpa_step3.commom.errors.Exception404;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 첨부파일 업로드 / 다운로드 조회
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AttachmentService {
+
+    private static final int MAX_FILENAME_LENGTH = 255;
+    private static final int MAX_CONTENT_TYPE_LENGTH = 100;
+
+    private final AttachmentJPARepository attachmentJPARepository;
+    private final BoardJPARepository boardJPARepository;
+    private final BoardCounterRepository boardCounterRepository;
+    private final AttachmentStore attachmentStore;
+    private final AttachmentCleaner attachmentCleaner;
+    private final BoardDetailCache boardDetailCache;
+    private final PageCache pageCache;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 게시글에 파일을 첨부합니다.
+     * 파일을 디스크에 쓰는 동안에는 트랜잭션(DB 커넥션)을 잡지 않고, 다 쓴 뒤 메타데이터만 한 트랜잭션으로 저장합니다.
+     * 저장에 실패하면 이번에 쓴 파일 중 참조되지 않는 파일은 정리 작업이 지웁니다.
+     *
+     * @param boardId 게시글 ID
+     * @param sessionUserId 현재 세션에 로그인한 사용자의 ID
+     * @param files 업로드 파일 (비어 있는 항목은 무시)
+     * @return 첨부된 파일 수
+     * @throws Exception404 게시글을 찾을 수 없는 경우
+     * @throws Exception403 게시글 작성자가 아닌 경우
+     * @throws Exception400 첨부할 파일이 없는 경우
+     */
+    public int upload(int boardId, int sessionUserId, List<MultipartFile> files) throws IOException {
+        // 1. 권한 확인
+        Board board = boardJPARepository.findById(boardId)
+                .orElseThrow(() -> new Exception404("게시글을 찾을 수 없습니다"));
+        // 작성자가 없는 게시글(네이티브 저장 경로 등)은 누구의 글도 아니므로 첨부 불가
+        if (board.getUser() == null || sessionUserId != board.getUser().getId()) {
+            throw new Exception403("파일을 첨부할 권한이 없습니다");
+        }
+
+        // 2. 파일마다 저장소에 스트리밍 저장 (같은 내용의 파일이 있으면 그대로 사용)
+        List<Attachment> attachments = new ArrayList<>();
+        try {
+            for (MultipartFile file : files == null ? List.<MultipartFile>of() : files) {
+                if (file.isEmpty()) {
+                    continue;
+                }
+                AttachmentStore.StoredBlob blob;
+                try (InputStream in = file.getInputStream()) {
+                    blob = attachmentStore.store(in);
+                }
+                attachments.add(Attachment.builder()
+                        .hash(blob.getHash())
+                        .size(blob.getSize())
+                        .filename(filename(file.getOriginalFilename()))
+                        .contentType(contentType(file.getContentType()))
+                        .build());
+            }
+            if (attachments.isEmpty()) {
+                throw new Exception400("첨부할 파일이 없습니다");
+            }
+
+            // 3. 메타데이터 저장 + 화면 검증값(ETag) 버전 증가 + 상세/페이지 캐시 무효화
+            transactionTemplate.executeWithoutResult(status -> {
+                Board reference = boardJPARepository.getReferenceById(boardId);
+                attachments.forEach(attachment -> attachment.setBoard(reference));
+                attachmentJPARepository.saveAll(attachments);
+                boardCounterRepository.bumpVersion(boardId);
+                boardDetailCache.invalidate(boardId);
+                pageCache.invalidate(BoardPageTags.board(boardId));
+            });
+        } catch (RuntimeException | IOException e) {
+            attachmentCleaner.cleanup(attachments.stream().map(Attachment::getHash).toList());
+            throw e;
+        }
+        return attachments.size();
+    }
+
+    /**
+     * 다운로드할 첨부파일 조회 (2차 캐시에 있으면 SQL 없이 조회)
+     *
+     * @param boardId 게시글 ID (주소의 게시글과 첨부파일의 게시글이 다르면 404)
+     * @param attachmentId 첨부파일 ID
+     * @return 첨부파일 메타데이터
+     * @throws Exception404 첨부파일이 없거나 디스크에 파일이 없는 경우
+     */
+    public Attachment getAttachment(int boardId, int attachmentId) {
+        Attachment attachment = attachmentJPARepository.findById(attachmentId)
+                // 지연 로딩 프록시에서 ID 만 꺼내므로 게시글은 조회하지 않는다.
+                .filter(found -> found.getBoard().getId() == boardId)
+                .orElseThrow(() -> new Exception404("첨부파일을 찾을 수 없습니다"));
+        if (!Files.isRegularFile(attachmentStore.path(attachment.getHash()))) {
+            log.warn("첨부파일 내용이 저장소에 없습니다: id={}, hash={}", attachmentId, attachment.getHash());
+            throw new Exception404("첨부파일을 찾을 수 없습니다");
+        }
+        return attachment;
+    }
+
+    /**
+     * 첨부파일 내용의 경로
+     */
+    public Path path(Attachment attachment) {
+        return attachmentStore.path(attachment.getHash());
+    }
+
+    // 경로를 제외한 파일 이름만 사용 (브라우저에 따라 전체 경로가 오는 경우가 있음)
+    private static String filename(String originalFilename) {
+        String name = StringUtils.getFilename(StringUtils.cleanPath(originalFilename == null ? "" : originalFilename));
+        if (!StringUtils.hasText(name)) {
+            return "file";
+        }
+        return name.length() > MAX_FILENAME_LENGTH ? name.substring(name.length() - MAX_FILENAME_LENGTH) : name;
+    }
+
+    private static String contentType(String contentType) {
+        if (contentType == null || contentType.length() > MAX_CONTENT_TYPE_LENGTH) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        try {
+            return MediaType.parseMediaType(contentType).toString();
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.tenco.blog_jpa_step3.attachment;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 첨부파일 내용 저장소 (디스크, 내용 주소 방식)
+ *
+ * 파일은 내용의 SHA-256 해시를 이름으로 {dir}/ab/cd/abcd... 경로에 저장합니다.
+ * - 업로드 스트림은 힙에 모으지 않고 FileChannel.transferFrom 으로 임시 파일에 바로 쓰면서 해시를 계산합니다.
+ * - 같은 해시의 파일이 이미 있으면 임시 파일을 버리고 기존 파일을 그대로 사용합니다. (중복 제거)
+ * - 파일 삭제(AttachmentCleaner)와 중복 저장이 겹치지 않도록 해시별 잠금 안에서 확인하고,
+ *   중복 저장 시 파일의 수정 시간을 갱신하여 정리 작업이 방금 다시 쓰인 파일을 지우지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class AttachmentStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    // transferFrom 한 번에 옮길 최대 크기
+    private static final long TRANSFER_CHUNK = 8 * 1024 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    private final Path tmp;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public AttachmentStore(@Value("${blog.attachment.dir:${java.io.tmpdir}/blog-attachments}") String dir) throws IOException {
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+        this.tmp = root.resolve("tmp");
+        Files.createDirectories(tmp);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        clearTemporaryFiles();
+        log.info("첨부파일 저장소: {}", root);
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 저장소에 저장합니다. (스트림은 닫지 않음)
+     *
+     * @param in 업로드 파일 스트림
+     * @return 저장된 파일의 해시와 크기
+     */
+    public StoredBlob store(InputStream in) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(tmp, "upload-", ".part");
+        try {
+            long size = 0;
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(in, digest));
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long transferred;
+                // 블로킹 스트림 채널이므로 0 은 스트림 끝을 뜻한다.
+                while ((transferred = target.transferFrom(source, size, TRANSFER_CHUNK)) > 0) {
+                    size += transferred;
+                }
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            boolean deduplicated = commit(temp, hash);
+            return new StoredBlob(hash, size, deduplicated);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 해시에 해당하는 파일 경로
+     *
+     * @param hash 파일 SHA-256 (16진수 소문자 64자)
+     * @return 파일 경로 (존재 여부는 확인하지 않음)
+     * @throws IllegalArgumentException 해시 형식이 아닌 경우
+     */
+    public Path path(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("잘못된 첨부파일 해시: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    /**
+     * 마지막으로 쓰인(또는 중복 저장된) 지 graceMillis 가 지난 파일을 삭제합니다.
+     *
+     * @param hash 파일 SHA-256
+     * @param graceMillis 최근에 쓰인 파일을 남겨둘 시간
+     * @return 아직 지울 수 없으면 남은 대기 시간(ms), 삭제했거나 파일이 없으면 0
+     */
+    long deleteIfIdle(String hash, long graceMillis) throws IOException {
+        Path path = path(hash);
+        synchronized (lock(hash)) {
+            try {
+                long idle = System.currentTimeMillis() - Files.getLastModifiedTime(path).toMillis();
+                if (idle < graceMillis) {
+                    return graceMillis - idle;
+                }
+                Files.delete(path);
+                return 0;
+            } catch (NoSuchFileException e) {
+                return 0;
+            }
+        }
+    }
+
+    // 임시 파일을 해시 경로로 옮긴다. 이미 있으면 수정 시간만 갱신 (임시 파일은 호출한 쪽에서 삭제)
+    private boolean commit(Path temp, String hash) throws IOException {
+        Path target = path(hash);
+        synchronized (lock(hash)) {
+            if (Files.exists(target)) {
+                Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+                return true;
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return false;
+        }
+    }
+
+    private Object lock(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    // 업로드 도중 종료되어 남은 임시 파일 정리
+    private void clearTemporaryFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tmp)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 저장 결과
+     */
+    @Getter
+    public static class StoredBlob {
+        private final String hash;
+        private final long size;
+        private final boolean deduplicated; // 같은 내용의 파일이 이미 있었는지
+
+        StoredBlob(String hash, long size, boolean deduplicated) {
+            this.hash = hash;
+            this.size = size;
+            this.deduplicated = deduplicated;
+        }
+    }
+}
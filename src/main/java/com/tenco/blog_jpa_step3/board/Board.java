@@ -1,9 +1,13 @@
 package com.tenco.blog_jpa_step3.board;
 
+import com.tenco.blog_jpa_step3.attachment.Attachment;
 import com.tenco.blog_jpa_step3.reply.Reply;
 import com.tenco.blog_jpa_step3.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -16,15 +20,27 @@ import java.util.List;
 @Setter
 @Entity // JPA에게 이 클래스가 엔티티임을 알립니다.
 @Table(name = "board_tb") // 실제 데이터베이스 테이블 이름을 지정합니다.
+// 2차 캐시 - views / reply_count 처럼 JPA 밖에서 바뀌는 컬럼은 바꾸는 쪽에서 캐시를 무효화한다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board")
 @NoArgsConstructor //  반드시 JPA/Hibernate에서는 엔티티 클래스를 인스턴스화하기 위해 기본 생성자가 필요
 @AllArgsConstructor
 public class Board {
 
     @Id // 기본 키를 나타냅니다.
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 생성을 데이터베이스에 위임합니다.
+    // 시퀀스에서 50개 단위로 ID 를 미리 할당받아(pooled) 사용합니다.
+    // IDENTITY 는 INSERT 를 실행해야 ID 를 알 수 있어서 JDBC 배치 INSERT 가 불가능합니다.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = 50)
     private Integer id; // 게시글 ID
     private String title; // 게시글 제목
-    private String content; // 게시글 내용
+
+    // 게시글 내용 - board_content_tb 에 (길면 압축하여) 따로 저장하고 필요할 때만 지연 로딩한다.
+    // 목록 쿼리는 board_tb 만 읽으므로 본문 바이트를 읽지 않고, 상세 쿼리는 fetch join 으로 함께 읽는다.
+    // 문자열은 getContent / setContent 로 다룬다.
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "content_id")
+    private BoardContent body;
 
     // created_at 컬럼과 매핑하며, 이 필드는 삽입 시 자동으로 설정됨.
     // insertable = false: 삽입 시 개발자가 값을 넣지 않고 DB에서 자동으로 설정.
@@ -32,6 +48,33 @@ public class Board {
     @Column(name = "created_at") 
     private Timestamp createdAt; // 게시글 작성 시간
 
+    // 조회수 - BoardViewCounter 가 JDBC 배치로 직접 증가시키는 컬럼
+    // JPA 가 insert/update 할 때 오래된 값으로 덮어쓰지 않도록 insertable, updatable = false
+    @ColumnDefault("0")
+    @Column(name = "views", nullable = false, insertable = false, updatable = false)
+    private long views;
+
+    // 댓글 수 / 마지막 댓글 시간 (비정규화 컬럼)
+    // ReplyService 가 댓글 등록/삭제 시 단일 UPDATE 문으로 원자적으로 증감시킨다.
+    // 목록 화면에서 게시글마다 COUNT(*) 를 하지 않기 위해 board_tb 에 직접 저장
+    @ColumnDefault("0")
+    @Column(name = "reply_count", nullable = false, insertable = false, updatable = false)
+    private int replyCount;
+
+    @Column(name = "last_reply_at", insertable = false, updatable = false)
+    private Timestamp lastReplyAt;
+
+    // 화면 검증값(ETag / Last-Modified)용 버전과 마지막 변경 시간
+    // 게시글 수정, 댓글 등록/삭제 시 BoardJPARepository 의 단일 UPDATE 문으로 version + 1, updated_at 갱신
+    // (조회수는 목록 ETag 에 값 자체를 넣으므로 버전을 올리지 않는다)
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false, insertable = false, updatable = false)
+    private long version;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private Timestamp updatedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user; // 작성자 정보
@@ -44,17 +87,41 @@ public class Board {
     // cascade = CascadeType.REMOVE 설정 하기
     // 양방향 맵핑 - 연관관계에 주인은 (Reply) 이다
     @OneToMany(mappedBy = "board", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board-replies") // 댓글 ID 목록 캐시
     //@OneToMany(mappedBy = "board", fetch = FetchType.LAZY)
     private List<Reply> replies = new ArrayList<>();
 
+    // 첨부파일 메타데이터 (파일 내용은 AttachmentStore) - 게시글 삭제 시 함께 삭제, 디스크 파일은 AttachmentCleaner 가 정리
+    @OneToMany(mappedBy = "board", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
+    @OrderBy("id asc")
+    private List<Attachment> attachments = new ArrayList<>();
+
     @Builder
     public Board(Integer id, String title, String content, User user, Timestamp createdAt) {
         this.id = id;
         this.title = title;
-        this.content = content;
+        this.body = content == null ? null : BoardContent.of(content);
         this.user = user;
         this.createdAt = createdAt;
     }
+
+    /**
+     * 게시글 내용 (본문이 로딩되지 않았다면 이 시점에 조회)
+     */
+    public String getContent() {
+        return body == null ? null : body.getText();
+    }
+
+    /**
+     * 게시글 내용 변경 - 내용이 같으면 UPDATE 가 나가지 않는다.
+     */
+    public void setContent(String content) {
+        if (body == null) {
+            body = BoardContent.of(content);
+        } else {
+            body.setText(content);
+        }
+    }
 }
 
 
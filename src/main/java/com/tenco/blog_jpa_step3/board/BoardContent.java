@@ -0,0 +1,147 @@
+package com.tenco.blog_jpa_step3.board;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문 엔티티 (board_content_tb)
+ *
+ * 본문을 board_tb 에서 분리하여 목록/검증값 조회처럼 board_tb 만 읽는 쿼리가 본문 바이트를 전혀 읽지 않게 합니다.
+ * Board 가 content_id 로 이 엔티티를 지연 로딩(LAZY)하며, 상세 화면 쿼리에서만 fetch join 으로 함께 읽습니다.
+ *
+ * 본문은 UTF-8 바이트로 저장하고, COMPRESS_THRESHOLD 바이트 이상이면서 압축 결과가 더 작을 때만 Deflate 로 압축합니다.
+ * (짧은 글은 압축 헤더 때문에 오히려 커지고 CPU 만 쓰게 됨)
+ * 압축/해제는 getText / setText 안에서 처리되므로 사용하는 쪽은 문자열만 다룹니다.
+ */
+@Getter
+@Entity
+@Table(name = "board_content_tb")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardContent {
+
+    // 이보다 짧은 본문은 압축하지 않는다. (UTF-8 바이트 기준)
+    public static final int COMPRESS_THRESHOLD = 512;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_content_seq")
+    @SequenceGenerator(name = "board_content_seq", sequenceName = "board_content_seq", allocationSize = 50)
+    private Integer id;
+
+    // 저장된 바이트 (compressed 가 true 면 Deflate 압축본)
+    @Lob
+    @Column(name = "data", nullable = false, length = 16_777_215)
+    private byte[] data;
+
+    @Column(name = "compressed", nullable = false)
+    private boolean compressed;
+
+    // 압축 전 UTF-8 바이트 길이 (압축 해제 버퍼 크기)
+    @Column(name = "original_length", nullable = false)
+    private int originalLength;
+
+    // 한번 풀어둔 본문 (같은 엔티티에서 여러 번 읽어도 한번만 압축 해제)
+    @Transient
+    private String text;
+
+    /**
+     * 본문으로 새 엔티티를 만듭니다. (JDBC 로 직접 저장하는 쪽에서는 인코딩 결과만 사용)
+     *
+     * @param text 본문
+     * @return 저장 전 엔티티
+     */
+    public static BoardContent of(String text) {
+        BoardContent content = new BoardContent();
+        content.setText(text);
+        return content;
+    }
+
+    /**
+     * 본문 문자열 (필요할 때 한번만 압축 해제)
+     */
+    public String getText() {
+        if (text == null && data != null) {
+            text = decode(data, compressed, originalLength);
+        }
+        return text;
+    }
+
+    /**
+     * 본문을 바꿉니다. 같은 내용이면 아무것도 바꾸지 않아 UPDATE 가 나가지 않습니다.
+     *
+     * @param text 새 본문 (null 은 빈 문자열로 저장)
+     */
+    public void setText(String text) {
+        String value = text == null ? "" : text;
+        if (data != null && value.equals(getText())) {
+            return;
+        }
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        byte[] deflated = raw.length >= COMPRESS_THRESHOLD ? deflate(raw) : null;
+        this.compressed = deflated != null && deflated.length < raw.length;
+        this.data = compressed ? deflated : raw;
+        this.originalLength = raw.length;
+        this.text = value;
+    }
+
+    /**
+     * 저장된 바이트를 본문 문자열로 되돌립니다. (JDBC 로 직접 읽는 쪽에서도 사용)
+     *
+     * @param data 저장된 바이트
+     * @param compressed 압축 여부
+     * @param originalLength 압축 전 바이트 길이
+     * @return 본문
+     */
+    public static String decode(byte[] data, boolean compressed, int originalLength) {
+        if (data == null) {
+            return null;
+        }
+        if (!compressed) {
+            return new String(data, StandardCharsets.UTF_8);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] raw = new byte[originalLength];
+            int offset = 0;
+            while (offset < originalLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, offset, originalLength - offset);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += read;
+            }
+            if (offset != originalLength) {
+                throw new IllegalStateException("게시글 본문 압축 해제 실패 - 길이 불일치: " + offset + " / " + originalLength);
+            }
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("게시글 본문 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[Math.min(raw.length, 8192)];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
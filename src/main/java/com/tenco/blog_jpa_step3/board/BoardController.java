@@ -1,20 +1,24 @@
 package com.tenco.blog_jpa_step3.board;
 
-import com.tenco.blog_jpa_step3.commom.errors.Exception404;
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
 import com.tenco.blog_jpa_step3.user.User;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.SessionAttribute;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
-import java.util.Objects;
 
 /**
  * BoardController는 블로그 게시글과 관련된 HTTP 요청을 처리하는 컨트롤러 클래스입니다.
@@ -25,6 +29,7 @@ import java.util.Objects;
 public class BoardController {
 
     private final BoardService boardService; // BoardService 주입
+    private final BoardViewCounter boardViewCounter; // 조회수 카운터 주입
 
     /**
      * 게시글 수정 처리 메서드
@@ -75,11 +80,8 @@ public class BoardController {
             return "redirect:/login-form"; // 로그인하지 않은 경우 로그인 페이지로 리다이렉트
         }
 
-        // 게시글 상세 조회 서비스 호출
-        Board board = boardService.getBoardDetails(id, sessionUser);
-        if (board == null) {
-            throw new Exception404("게시글이 존재하지 않습니다");
-        }
+        // 게시글 조회 서비스 호출 (수정 폼에는 댓글이 필요 없다)
+        Board board = boardService.getBoard(id);
 
         // 조회한 게시글을 요청 속성에 추가
         request.setAttribute("board", board);
@@ -141,21 +143,58 @@ public class BoardController {
 
     /**
      * 메인 페이지를 표시하는 메서드
-     * 요청 주소: **GET http://localhost:8080/**
+     * 요청 주소: **GET http://localhost:8080/?cursor={id}** 또는 **GET http://localhost:8080/?before={id}**
+     * 목록 DTO 로 계산한 ETag 가 클라이언트의 If-None-Match 와 같으면 렌더링 없이 304 로 응답합니다.
      *
-     * @param model 뷰에 전달할 모델 객체
-     * @return 메인 페이지 뷰
+     * @param cursor      다음 페이지 커서 (이전 페이지의 마지막 게시글 ID)
+     * @param before      이전 페이지 커서 (현재 페이지의 첫번째 게시글 ID)
+     * @param sessionUser 로그인한 사용자 (없으면 null, 세션을 새로 만들지 않음)
+     * @param model       뷰에 전달할 모델 객체
+     * @return 메인 페이지 뷰 (304 인 경우 null)
      */
     @GetMapping("/")
-    public String index(Model model) {
-        // 모든 게시글 조회 서비스 호출
-        List<Board> boardList = boardService.getAllBoards();
-        // 조회한 게시글 목록을 모델에 추가
-        model.addAttribute("boardList", boardList);
+    public String index(@RequestParam(name = "cursor", required = false) Integer cursor,
+                        @RequestParam(name = "before", required = false) Integer before,
+                        @SessionAttribute(name = "sessionUser", required = false) User sessionUser,
+                        HttpServletRequest request,
+                        HttpServletResponse response,
+                        WebRequest webRequest,
+                        Model model) {
+        // 한 페이지 분량의 게시글만 조회 (키셋 페이징)
+        BoardDTO.PageDTO page = boardService.getBoardPage(cursor, before);
+        // 비로그인 사용자 응답은 페이지 캐시에 저장 (목록에 나온 게시글 / 조회수가 바뀌면 무효화)
+        PageCache.cacheable(request, null, BoardPageTags.forPage(page, cursor == null));
+        // 화면을 그리기 전에 검증값 비교 - 같으면 304
+        BoardValidators.cacheHeaders(response, sessionUser);
+        if (webRequest.checkNotModified(BoardValidators.pageEtag(page, sessionUser))) {
+            return null;
+        }
+        // 조회한 게시글 목록과 페이지 정보를 모델에 추가
+        model.addAttribute("boardList", page.getBoardList());
+        model.addAttribute("page", page);
         // 메인 페이지 템플릿 반환
         return "index";
     }
 
+    /**
+     * 게시글 검색
+     * 요청 주소: **GET http://localhost:8080/board/search?q={검색어}&page={페이지}**
+     *
+     * @param q     검색어
+     * @param page  페이지 번호 (0부터 시작)
+     * @param model 뷰에 전달할 모델 객체
+     * @return 검색 결과 페이지 뷰
+     */
+    @GetMapping("/board/search")
+    public String search(@RequestParam(name = "q", defaultValue = "") String q,
+                         @RequestParam(name = "page", defaultValue = "0") int page,
+                         Model model) {
+        BoardDTO.SearchPageDTO result = boardService.searchBoards(q, page);
+        model.addAttribute("boardList", result.getBoardList());
+        model.addAttribute("search", result);
+        return "board/search";
+    }
+
     /**
      * 게시글 작성 폼을 표시하는 메서드
      * 요청 주소: **GET http://localhost:8080/board/save-form**
@@ -171,31 +210,50 @@ public class BoardController {
     /**
      * 게시글 상세보기 처리 메서드
      * 요청 주소: **GET http://localhost:8080/board/{id}**
+     * 조건부 요청(If-None-Match / If-Modified-Since)이면 게시글 버전만 먼저 확인하여
+     * 바뀌지 않았을 때 게시글/댓글을 로딩하지 않고 304 로 응답합니다.
      *
-     * @param id      게시글의 ID
-     * @param request HTTP 요청 객체
-     * @param session HTTP 세션 객체
-     * @return 게시글 상세보기 페이지 뷰
+     * @param id          게시글의 ID
+     * @param sessionUser 로그인한 사용자 (없으면 null, 세션을 새로 만들지 않음)
+     * @param request     HTTP 요청 객체
+     * @return 게시글 상세보기 페이지 뷰 (304 인 경우 null)
      */
     @GetMapping("/board/{id}")
     public String detail(@PathVariable Integer id,
+                         @SessionAttribute(name = "sessionUser", required = false) User sessionUser,
                          HttpServletRequest request,
-                         HttpSession session) {
-        // 세션에서 로그인한 사용자 정보 가져오기
-        User sessionUser = (User) session.getAttribute("sessionUser");
-        Board board = boardService.getBoardDetails(id, sessionUser);
-
-        // 현재 사용자가 게시글의 작성자인지 확인하여 isOwner 필드 설정
-        boolean isOwner = false;
-        if (sessionUser != null && board != null && board.getUser() != null) {
-            if (Objects.equals(sessionUser.getId(), board.getUser().getId())) {
-                isOwner = true;
+                         HttpServletResponse response,
+                         WebRequest webRequest) {
+        BoardValidators.cacheHeaders(response, sessionUser);
+        // 비로그인 사용자 응답은 페이지 캐시에 저장 - 캐시에서 응답할 때도 조회수는 증가
+        PageCache.cacheable(request, () -> boardViewCounter.increment(id), List.of(BoardPageTags.board(id)));
+        // 1. 조건부 요청 - 스냅샷 캐시 또는 버전 컬럼만 읽어서 비교
+        //    (조건부 요청이 아니면 비교할 값이 없으므로 쿼리를 추가하지 않고 바로 로딩)
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            BoardVersionDTO version = boardService.getBoardVersion(id);
+            if (webRequest.checkNotModified(BoardValidators.detailEtag(id, version.getVersion(), sessionUser), version.getLastModified())) {
+                // 다시 본 것도 조회로 센다.
+                boardViewCounter.increment(id);
+                return null;
             }
         }
 
+        // 2. 게시글 상세 스냅샷(캐시) + 현재 사용자 기준 작성자 여부
+        BoardDTO.DetailDTO detail = boardService.getBoardDetails(id, sessionUser);
+        // 조회수 증가 (메모리에 누적 후 주기적으로 DB 반영)
+        boardViewCounter.increment(id);
+        // 응답에 스냅샷 기준 ETag / Last-Modified 설정 (1번 확인 뒤 스냅샷 버전이 클라이언트 값과 같아진 경우도 304)
+        BoardVersionDTO version = detail.getBoard().getVersion();
+        if (webRequest.checkNotModified(BoardValidators.detailEtag(id, version.getVersion(), sessionUser), version.getLastModified())) {
+            return null;
+        }
+
         // 뷰에 데이터 전달
-        request.setAttribute("isOwner", isOwner);
-        request.setAttribute("board", board);
+        request.setAttribute("isOwner", detail.isOwner());
+        request.setAttribute("board", detail.getBoard());
+        request.setAttribute("boardId", id);
+        request.setAttribute("replies", detail.getReplies());
+        request.setAttribute("replyPage", detail.getBoard().getReplyPage());
         return "board/detail";
     }
 
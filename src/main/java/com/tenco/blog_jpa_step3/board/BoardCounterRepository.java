@@ -0,0 +1,89 @@
+package com.tenco.blog_jpa_step3.board;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글의 비정규화 컬럼(댓글 수, 마지막 댓글 시간)과 화면 검증값(version, updated_at)을 단일 UPDATE 문으로 바꾸는 저장소
+ *
+ * JPA 네이티브 UPDATE 는 영향받는 테이블(board_tb)의 2차 캐시 영역 전체를 비우기 때문에,
+ * 댓글 등록/삭제나 게시글 수정이 있을 때마다 다른 게시글의 캐시까지 모두 사라집니다.
+ * 그래서 JdbcTemplate 으로 실행하고 (JpaTransactionManager 가 같은 커넥션을 공유하므로 같은 트랜잭션)
+ * 바뀐 게시글 한 건만 2차 캐시에서 제거합니다. (BoardViewCounter 와 같은 방식)
+ */
+@RequiredArgsConstructor
+@Repository
+public class BoardCounterRepository {
+
+    private static final String INCREMENT_REPLY_SQL =
+            "UPDATE board_tb SET reply_count = reply_count + 1, last_reply_at = CURRENT_TIMESTAMP, " +
+                    "version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+    private static final String DECREMENT_REPLY_SQL =
+            "UPDATE board_tb SET reply_count = CASE WHEN reply_count > 0 THEN reply_count - 1 ELSE 0 END, " +
+                    "last_reply_at = (SELECT MAX(r.created_at) FROM reply_tb r WHERE r.board_id = ? AND r.status = 'ACTIVE'), " +
+                    "version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+    private static final String BUMP_VERSION_SQL =
+            "UPDATE board_tb SET version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 댓글 수 1 증가 + 마지막 댓글 시간 갱신
+     * 읽고-수정하고-쓰는 방식이 아니라 UPDATE 한 문장으로 처리하기 때문에 동시에 댓글이 달려도 값이 유실되지 않는다.
+     *
+     * @param id 게시글 ID
+     * @return 변경된 행 수 (게시글이 없으면 0)
+     */
+    public int incrementReplyCount(int id) {
+        return update(id, INCREMENT_REPLY_SQL, id);
+    }
+
+    /**
+     * 댓글 수 1 감소 (0 미만으로 내려가지 않음) + 마지막 댓글 시간 다시 계산
+     * 지운 댓글이 마지막 댓글이었을 수 있으므로 남은 활성 댓글의 가장 최근 시간으로 같은 UPDATE 에서 맞춘다. (없으면 NULL)
+     * 댓글 목록이 바뀌었으므로 댓글 수가 이미 0 이어도 버전은 항상 올린다.
+     * 댓글을 실제로 지운 요청(삭제된 행 수 1)에서만 호출해야 동시 삭제에서 두 번 감소하지 않는다.
+     *
+     * @param id 게시글 ID
+     * @return 변경된 행 수
+     */
+    public int decrementReplyCount(int id) {
+        return update(id, DECREMENT_REPLY_SQL, id, id);
+    }
+
+    /**
+     * 게시글 버전 1 증가 + 변경 시간 갱신 (게시글 수정, 첨부파일 추가 시)
+     * version / updated_at 은 엔티티에서 updatable = false 이므로 같은 트랜잭션의 제목/내용 UPDATE 와 겹치지 않는다.
+     *
+     * @param id 게시글 ID
+     * @return 변경된 행 수
+     */
+    public int bumpVersion(int id) {
+        return update(id, BUMP_VERSION_SQL, id);
+    }
+
+    private int update(int id, String sql, Object... args) {
+        int updated = jdbcTemplate.update(sql, args);
+        evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 같은 트랜잭션에서 수정된 게시글 엔티티는 커밋 시 (이 UPDATE 이전의 version 등으로) 2차 캐시에 다시 들어가므로
+            // 커밋 직후에 한번 더 제거한다.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        }
+        return updated;
+    }
+
+    private void evict(int id) {
+        entityManagerFactory.getCache().evict(Board.class, id);
+    }
+}
@@ -1,8 +1,16 @@
 package com.tenco.blog_jpa_step3.board;
 
+import com.tenco.blog_jpa_step3.attachment.AttachmentDTO;
+import com.tenco.blog_jpa_step3.reply.ReplyDTO;
 import com.tenco.blog_jpa_step3.user.User;
 
 import lombok.Data;
+import lombok.Getter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
 
 public class BoardDTO {
     
@@ -31,4 +39,103 @@ public class BoardDTO {
         private String title;
         private String content;
     }
+
+    /**
+     * 메인 화면 키셋 페이징 결과
+     * prevCursor / nextCursor 는 현재 페이지의 첫번째 / 마지막 게시글 ID 이다.
+     */
+    @Getter
+    public static class PageDTO {
+        private final List<BoardListDTO> boardList;
+        private final boolean hasPrev;
+        private final boolean hasNext;
+        private final Integer prevCursor;
+        private final Integer nextCursor;
+
+        public PageDTO(List<BoardListDTO> boardList, boolean hasPrev, boolean hasNext) {
+            this.boardList = boardList;
+            this.hasPrev = hasPrev && !boardList.isEmpty();
+            this.hasNext = hasNext && !boardList.isEmpty();
+            this.prevCursor = boardList.isEmpty() ? null : boardList.get(0).getId();
+            this.nextCursor = boardList.isEmpty() ? null : boardList.get(boardList.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 검색 결과 페이지
+     * page 는 0부터 시작한다.
+     */
+    @Getter
+    public static class SearchPageDTO {
+        private final String q;
+        private final String qEncoded; // 페이지 링크용 (URL 인코딩된 검색어)
+        private final List<BoardListDTO> boardList;
+        private final int total;
+        private final boolean hasPrev;
+        private final boolean hasNext;
+        private final int prevPage;
+        private final int nextPage;
+
+        public SearchPageDTO(String q, List<BoardListDTO> boardList, int total, int page, int size) {
+            this.q = q;
+            this.qEncoded = q == null ? "" : URLEncoder.encode(q, StandardCharsets.UTF_8);
+            this.boardList = boardList;
+            this.total = total;
+            this.hasPrev = page > 0;
+            this.hasNext = ((long) page + 1) * size < total;
+            this.prevPage = page - 1;
+            this.nextPage = page + 1;
+        }
+    }
+
+    /**
+     * 게시글 상세 스냅샷 (BoardDetailCache 에 저장되는 값)
+     * 게시글, 작성자 이름, 댓글 첫 페이지를 엔티티가 아닌 불변 값으로 복사해 둔다.
+     * 여러 사용자가 공유하므로 isOwner 같은 사용자별 값은 절대 담지 않는다.
+     */
+    @Getter
+    public static class SnapshotDTO {
+        private final Integer id;
+        private final String title;
+        private final String content;
+        private final String contentHtml; // 본문 Markdown 을 변환한 HTML (이스케이프/URL 정리 완료)
+        private final Timestamp createdAt;
+        private final Integer userId;
+        private final String username;
+        private final ReplyDTO.PageDTO replyPage;
+        private final List<AttachmentDTO.ViewDTO> attachments;
+        private final BoardVersionDTO version; // 스냅샷을 만들 때의 게시글 버전 (ETag 용)
+
+        public SnapshotDTO(Board board, ReplyDTO.PageDTO replyPage, String contentHtml) {
+            this.id = board.getId();
+            this.title = board.getTitle();
+            this.content = board.getContent();
+            this.contentHtml = contentHtml;
+            this.createdAt = board.getCreatedAt();
+            this.userId = board.getUser() == null ? null : board.getUser().getId();
+            this.username = board.getUser() == null ? null : board.getUser().getUsername();
+            this.replyPage = replyPage;
+            this.attachments = board.getAttachments().stream()
+                    .map(attachment -> new AttachmentDTO.ViewDTO(attachment, board.getId()))
+                    .toList();
+            this.version = new BoardVersionDTO(board.getVersion(), board.getUpdatedAt(), board.getCreatedAt());
+        }
+    }
+
+    /**
+     * 게시글 상세보기 결과
+     * 공유 스냅샷 위에 현재 사용자 기준의 isOwner / replyOwner 값을 더해서 요청마다 새로 만든다.
+     */
+    @Getter
+    public static class DetailDTO {
+        private final SnapshotDTO board;
+        private final List<ReplyDTO.ViewDTO> replies;
+        private final boolean isOwner; // 현재 사용자가 게시글 작성자인지
+
+        public DetailDTO(SnapshotDTO board, User sessionUser) {
+            this.board = board;
+            this.replies = board.getReplyPage().toViews(sessionUser);
+            this.isOwner = sessionUser != null && sessionUser.getId().equals(board.getUserId());
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package com.tenco.blog_jpa_step3.board;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 스냅샷(BoardDTO.SnapshotDTO)을 게시글 ID 기준으로 보관하는 프로세스 내부 캐시입니다.
+ * Caffeine(W-TinyLFU)을 사용하여 최대 개수를 넘으면 자주 읽히지 않는 게시글부터 제거됩니다.
+ * 게시글 수정/삭제, 댓글 등록/삭제 시 해당 게시글의 스냅샷을 무효화합니다.
+ * 만료 시간이 없으므로 미스 로딩은 복제 DB 가 아닌 주 DB 에서 읽습니다. (BoardService.loadBoardSnapshot)
+ * 무효화 직후 늦게 따라오는 복제 DB 에서 읽은 옛날 스냅샷이 다음 쓰기까지 모두에게 제공되지 않도록 하기 위함입니다.
+ *
+ * 캐시에는 완성된 값이 아니라 "로딩 중인 Future" 가 먼저 들어가기 때문에,
+ * 인기 게시글에 동시에 캐시 미스가 몰려도 DB 조회는 한번만 실행되고 (single-flight)
+ * 나머지 요청은 같은 결과를 기다렸다가 함께 받습니다.
+ */
+@Component
+public class BoardDetailCache {
+
+    private final AsyncCache<Integer, BoardDTO.SnapshotDTO> cache;
+
+    // DB 에서 실제로 로딩한 횟수
+    private final LongAdder loadCount = new LongAdder();
+    // 진행 중인 로딩에 합류하여 DB 조회를 생략한 요청 수
+    private final LongAdder coalescedCount = new LongAdder();
+
+    public BoardDetailCache(@Value("${blog.cache.board-detail.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats() // hit / miss / eviction 카운터 기록
+                .buildAsync();
+    }
+
+    /**
+     * 캐시에서 스냅샷을 찾고, 없으면 loader 로 만들어 저장합니다. (read-through)
+     * loader 는 캐시 미스를 처음 발견한 요청 스레드에서 실행되고,
+     * 그 사이에 들어온 같은 게시글 요청은 새로 조회하지 않고 그 결과를 기다립니다.
+     * loader 에서 발생한 예외(Exception404 등)는 기다리던 요청 모두에게 그대로 전달되고 캐시에 남지 않습니다.
+     *
+     * @param boardId 게시글 ID
+     * @param loader 캐시 미스 시 DB 에서 스냅샷을 만드는 함수
+     * @return 게시글 상세 스냅샷
+     */
+    public BoardDTO.SnapshotDTO get(int boardId, Function<Integer, BoardDTO.SnapshotDTO> loader) {
+        CompletableFuture<BoardDTO.SnapshotDTO> mine = new CompletableFuture<>();
+        CompletableFuture<BoardDTO.SnapshotDTO> future = cache.get(boardId, (key, executor) -> mine);
+
+        if (future == mine) {
+            // 이 요청이 로딩 담당
+            loadCount.increment();
+            try {
+                mine.complete(loader.apply(boardId));
+            } catch (Throwable e) {
+                // Error(StackOverflowError 등)도 포함 - 완료되지 않은 Future 가 남으면 합류한 요청이 영원히 기다린다.
+                // 실패한 Future 는 Caffeine 이 캐시에서 자동으로 제거한다.
+                mine.completeExceptionally(e);
+                throw e;
+            }
+        } else if (!future.isDone()) {
+            // 다른 요청이 로딩 중 - 합류
+            coalescedCount.increment();
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 로딩이 끝난 스냅샷이 캐시에 있으면 반환하고, 없으면 null 을 반환합니다. (로딩하지 않음)
+     * hit / miss 통계에도 반영하지 않습니다.
+     *
+     * @param boardId 게시글 ID
+     * @return 캐시된 스냅샷 또는 null
+     */
+    public BoardDTO.SnapshotDTO peek(int boardId) {
+        CompletableFuture<BoardDTO.SnapshotDTO> future = cache.asMap().get(boardId);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    /**
+     * 게시글 스냅샷을 무효화합니다.
+     * 트랜잭션 안에서 호출되면 커밋 직후에 한번 더 무효화하여,
+     * 커밋 전에 다른 요청이 옛날 데이터로 캐시를 다시 채우는 경우를 막습니다.
+     *
+     * @param boardId 게시글 ID
+     */
+    public void invalidate(int boardId) {
+        cache.synchronous().invalidate(boardId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.synchronous().invalidate(boardId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 모든 스냅샷을 무효화합니다.
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * 캐시 통계 (관리자 화면 노출용)
+     *
+     * @return hit / miss / eviction / 요청 합류(coalesced) 카운터와 현재 크기
+     */
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.synchronous().stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.synchronous().estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("loadCount", loadCount.sum());
+        result.put("coalescedCount", coalescedCount.sum());
+        return result;
+    }
+}
@@ -1,16 +1,92 @@
 package com.tenco.blog_jpa_step3.board;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 // BoardJPARepository는 Board 엔티티에 대한 CRUD 기능을 제공한다.
 public interface BoardJPARepository extends JpaRepository<Board, Integer> {
 
     // JPQL - Fetch JOIN 사용
     // 커스텀 쿼리 메서드: Board와 User를 조인하여 특정 Board 조회
-    @Query("select b from Board b join fetch b.user u where b.id = :id")
+    // 상세/수정 화면은 본문이 반드시 필요하므로 지연 로딩 본문(board_content_tb)도 같은 쿼리로 읽는다.
+    // 첨부파일 목록도 함께 읽어 상세 화면이 쿼리 2번(게시글, 댓글)으로 끝나게 한다.
+    @Query("select b from Board b join fetch b.user u left join fetch b.body left join fetch b.attachments where b.id = :id")
     Optional<Board> findByIdJoinUser(@Param("id") int id);
-}
\ No newline at end of file
+
+    /**
+     * 키셋(커서) 페이징 - 다음 페이지
+     * 목록 화면 전용 DTO(BoardListDTO)로 바로 조회하기 때문에 작성자 이름까지 쿼리 한번으로 끝난다.
+     * OFFSET 을 사용하지 않고 PK 인덱스를 타고 cursor 위치부터 바로 읽기 때문에
+     * 테이블 크기와 상관없이 페이지당 비용이 일정하다.
+     * SQL: ... WHERE id < :cursor ORDER BY id DESC LIMIT n (n 은 pageable 의 size)
+     *
+     * @param cursor   이전 페이지의 마지막(가장 작은) 게시글 ID
+     * @param pageable 조회 개수 (항상 0 페이지로 전달)
+     * @return cursor 보다 작은 ID 의 게시글 목록 (ID 내림차순)
+     */
+    @Query("select new com.tenco.blog_jpa_step3.board.BoardListDTO(b.id, b.title, b.createdAt, u.username, b.views, b.replyCount, b.lastReplyAt, b.version) " +
+            "from Board b left join b.user u where b.id < :cursor order by b.id desc")
+    List<BoardListDTO> findPageBefore(@Param("cursor") int cursor, Pageable pageable);
+
+    /**
+     * 키셋(커서) 페이징 - 이전 페이지
+     * SQL: ... WHERE id > :cursor ORDER BY id ASC LIMIT n
+     * 화면에 출력할 때는 서비스에서 다시 내림차순으로 뒤집어서 사용한다.
+     *
+     * @param cursor   현재 페이지의 첫번째(가장 큰) 게시글 ID
+     * @param pageable 조회 개수 (항상 0 페이지로 전달)
+     * @return cursor 보다 큰 ID 의 게시글 목록 (ID 오름차순)
+     */
+    @Query("select new com.tenco.blog_jpa_step3.board.BoardListDTO(b.id, b.title, b.createdAt, u.username, b.views, b.replyCount, b.lastReplyAt, b.version) " +
+            "from Board b left join b.user u where b.id > :cursor order by b.id asc")
+    List<BoardListDTO> findPageAfter(@Param("cursor") int cursor, Pageable pageable);
+
+    /**
+     * 검색 결과 페이지의 게시글 목록 조회
+     * 검색 색인에서 찾은 ID 목록(한 페이지 분량)만 IN 조건으로 한번에 가져온다.
+     * 반환 순서는 보장되지 않으므로 호출하는 쪽에서 검색 순위대로 다시 정렬한다.
+     *
+     * @param ids 게시글 ID 목록
+     * @return 게시글 목록
+     */
+    @Query("select new com.tenco.blog_jpa_step3.board.BoardListDTO(b.id, b.title, b.createdAt, u.username, b.views, b.replyCount, b.lastReplyAt, b.version) " +
+            "from Board b left join b.user u where b.id in :ids")
+    List<BoardListDTO> findListByIdIn(@Param("ids") List<Integer> ids);
+
+    /**
+     * 게시글 상세 화면의 검증값만 조회 (조건부 요청 전용)
+     * 엔티티를 올리지 않고 PK 로 컬럼 두 개만 읽는다.
+     *
+     * @param id 게시글 ID
+     * @return 버전과 마지막 변경 시간 (게시글이 없으면 empty)
+     */
+    @Query("select new com.tenco.blog_jpa_step3.board.BoardVersionDTO(b.version, b.updatedAt, b.createdAt) from Board b where b.id = :id")
+    Optional<BoardVersionDTO> findVersionById(@Param("id") int id);
+
+    /**
+     * 전체 게시글을 스트림으로 조회 (내보내기 전용)
+     * List 로 한번에 받지 않고 JDBC fetch size 만큼씩 커서로 읽어 온다.
+     * 호출하는 쪽에서 트랜잭션 안에서 사용하고, 다 쓴 뒤 반드시 close 해야 한다. (try-with-resources)
+     * 읽은 엔티티는 영속성 컨텍스트에 쌓이므로 호출하는 쪽에서 주기적으로 clear 해야 메모리가 일정하게 유지된다.
+     *
+     * 본문도 함께 읽어 행마다 본문 조회 쿼리가 추가로 나가지 않게 한다.
+     * 작성자가 없는 게시글(user_id NULL)도 내보내야 하므로 작성자는 left join 으로 가져온다. (getUser() 가 null 일 수 있음)
+     *
+     * @return 작성자, 본문을 포함한 게시글 스트림 (ID 오름차순)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from Board b left join fetch b.user left join fetch b.body order by b.id asc")
+    Stream<Board> streamAll();
+}
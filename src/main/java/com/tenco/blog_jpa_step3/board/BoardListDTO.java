@@ -0,0 +1,25 @@
+package com.tenco.blog_jpa_step3.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.sql.Timestamp;
+
+/**
+ * 메인 화면(게시글 목록) 전용 읽기 모델입니다.
+ * JPQL 생성자 표현식(select new ...)으로 필요한 컬럼만 바로 조회하기 때문에
+ * 영속성 컨텍스트에 엔티티가 올라가지 않고, 작성자 이름도 조인 한번으로 함께 가져옵니다.
+ * (Board.user 가 LAZY 라서 화면 렌더링 중에 추가 select 가 발생하던 N+1 문제 해결)
+ */
+@Getter
+@AllArgsConstructor
+public class BoardListDTO {
+    private Integer id; // 게시글 ID
+    private String title; // 게시글 제목
+    private Timestamp createdAt; // 게시글 작성 시간
+    private String username; // 작성자 이름
+    private long views; // 조회수
+    private int replyCount; // 댓글 수 (board_tb.reply_count)
+    private Timestamp lastReplyAt; // 마지막 댓글 시간 (board_tb.last_reply_at)
+    private long version; // 게시글 버전 (목록 ETag 계산용)
+}
@@ -1,7 +1,12 @@
 package com.tenco.blog_jpa_step3.board;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.IdentifierGenerator;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,16 +28,39 @@ public class BoardNativeRepository {
      */
     @Transactional
     public void save(String title, String content) {
-        // 1. 게시글 삽입 SQL 작성
+        // 1. 본문 삽입 - 본문은 board_content_tb 에 (길면 압축하여) 따로 저장한다.
+        // ID 는 JPA 와 같은 ID 생성기에서 받는다. (pooled 구간을 메모리에서 나눠 쓰므로 행마다 구간을 소비하지 않고,
+        // 시퀀스 문법도 Dialect 가 처리하므로 H2 / MySQL 모두 동작)
+        int contentId = nextId(BoardContent.class);
+        BoardContent body = BoardContent.of(content);
+        Query contentQuery = em.createNativeQuery(
+            "INSERT INTO board_content_tb(id, data, compressed, original_length) VALUES (?, ?, ?, ?)");
+        contentQuery.setParameter(1, contentId);
+        contentQuery.setParameter(2, body.getData());
+        contentQuery.setParameter(3, body.isCompressed());
+        contentQuery.setParameter(4, body.getOriginalLength());
+        contentQuery.executeUpdate();
+
+        // 2. 게시글 삽입 SQL 작성 (ID 는 같은 방식으로 받는다)
         Query query = em.createNativeQuery(
-            "INSERT INTO board_tb(title, content, created_at) VALUES (?, ?, NOW())");
-        // 2. SQL 파라미터 설정
-        query.setParameter(1, title);
-        query.setParameter(2, content);
-        // 3. SQL 실행
+            "INSERT INTO board_tb(id, title, content_id, created_at) VALUES (?, ?, ?, NOW())");
+        // 3. SQL 파라미터 설정
+        query.setParameter(1, nextId(Board.class));
+        query.setParameter(2, title);
+        query.setParameter(3, contentId);
+        // 4. SQL 실행
         query.executeUpdate();
     }
 
+    // 엔티티에 설정된 ID 생성기(@SequenceGenerator, allocationSize 50)로 다음 ID 를 받는다. (트랜잭션 안에서 호출)
+    private int nextId(Class<?> entityClass) {
+        SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+        Generator generator = session.getFactory().getMappingMetamodel()
+            .getEntityDescriptor(entityClass)
+            .getGenerator();
+        return ((Number) ((IdentifierGenerator) generator).generate(session, null)).intValue();
+    }
+
     /**
      * 특정 ID의 게시글을 조회합니다.
      */
@@ -57,6 +85,34 @@ public class BoardNativeRepository {
         return query.getResultList();
     }
 
+    /**
+     * 키셋(커서) 페이징 - 메인 화면과 같은 목록 한 페이지를 네이티브 SQL 로 조회합니다.
+     */
+    public List<BoardListDTO> findPageBefore(int cursor, int size) {
+        // 1. 목록에 필요한 컬럼만 조회하는 SQL 작성 (작성자 이름은 조인으로 함께)
+        Query query = em.createNativeQuery(
+            "SELECT b.id, b.title, b.created_at, u.username, b.views, b.reply_count, b.last_reply_at, b.version " +
+            "FROM board_tb b LEFT JOIN user_tb u ON u.id = b.user_id WHERE b.id < ? ORDER BY b.id DESC LIMIT ?");
+        // 2. SQL 파라미터 설정
+        query.setParameter(1, cursor);
+        query.setParameter(2, size);
+        // 3. 행을 목록 DTO 로 변환
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+            .map(row -> new BoardListDTO(((Number) row[0]).intValue(), (String) row[1], toTimestamp(row[2]),
+                (String) row[3], ((Number) row[4]).longValue(), ((Number) row[5]).intValue(),
+                toTimestamp(row[6]), ((Number) row[7]).longValue()))
+            .toList();
+    }
+
+    // 드라이버/Hibernate 버전에 따라 Timestamp 또는 LocalDateTime 으로 올 수 있다.
+    private static Timestamp toTimestamp(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            return Timestamp.valueOf(dateTime);
+        }
+        return (Timestamp) value;
+    }
+
     /**
      * 특정 ID의 게시글을 업데이트합니다.
      */
@@ -64,13 +120,23 @@ public class BoardNativeRepository {
     public void updateById(int id, String title, String content) {
         // 1. 게시글 업데이트 SQL 작성
         Query query = em.createNativeQuery(
-            "UPDATE board_tb SET title = ?, content = ? WHERE id = ?");
+            "UPDATE board_tb SET title = ? WHERE id = ?");
         // 2. SQL 파라미터 설정
         query.setParameter(1, title);
-        query.setParameter(2, content);
-        query.setParameter(3, id);
+        query.setParameter(2, id);
         // 3. SQL 실행
         query.executeUpdate();
+
+        // 4. 본문은 board_content_tb 에 있으므로 따로 업데이트 (압축 여부는 BoardContent 와 같은 규칙)
+        BoardContent body = BoardContent.of(content);
+        Query contentQuery = em.createNativeQuery(
+            "UPDATE board_content_tb SET data = ?, compressed = ?, original_length = ? " +
+            "WHERE id = (SELECT content_id FROM board_tb WHERE id = ?)");
+        contentQuery.setParameter(1, body.getData());
+        contentQuery.setParameter(2, body.isCompressed());
+        contentQuery.setParameter(3, body.getOriginalLength());
+        contentQuery.setParameter(4, id);
+        contentQuery.executeUpdate();
     }
 
     /**
@@ -78,13 +144,23 @@ public class BoardNativeRepository {
      */
     @Transactional
     public void deleteById(int id) {
-        // 1. 게시글 삭제 SQL 작성
+        // 1. 본문 ID 를 먼저 확인 (board_tb 가 본문을 참조하므로 게시글을 먼저 지워야 한다)
+        List<?> contentIds = em.createNativeQuery(
+            "SELECT content_id FROM board_tb WHERE id = ?")
+            .setParameter(1, id)
+            .getResultList();
+        // 2. 게시글 삭제 SQL 작성
         Query query = em.createNativeQuery(
             "DELETE FROM board_tb WHERE id = ?");
-        // 2. SQL 파라미터 설정
+        // 3. SQL 파라미터 설정
         query.setParameter(1, id);
-        // 3. SQL 실행
+        // 4. SQL 실행
         query.executeUpdate();
+        // 5. 본문 삭제
+        if (!contentIds.isEmpty() && contentIds.get(0) != null) {
+            em.createNativeQuery("DELETE FROM board_content_tb WHERE id = ?")
+                .setParameter(1, contentIds.get(0))
+                .executeUpdate();
+        }
     }
 }
-
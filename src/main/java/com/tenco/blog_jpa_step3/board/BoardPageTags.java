@@ -0,0 +1,48 @@
+package com.tenco.blog_jpa_step3.board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 페이지 캐시(PageCache) 무효화 태그
+ *
+ * - board:{id} : 게시글 제목/내용/댓글 - 상세 페이지와 그 게시글이 나온 목록 페이지
+ * - views:{id} : 조회수 - 목록 페이지만 (상세 페이지에는 조회수가 없음)
+ * - list       : 모든 목록 페이지 (게시글 삭제 시 뒤쪽 글이 당겨지거나 다음 페이지 여부가 바뀜)
+ * - list-head  : 첫 페이지와 이전(before) 페이지 (새 게시글은 항상 가장 큰 ID 라서 이 페이지들만 바뀜)
+ */
+public final class BoardPageTags {
+
+    public static final String LIST = "list";
+    public static final String LIST_HEAD = "list-head";
+
+    private BoardPageTags() {
+    }
+
+    public static String board(int boardId) {
+        return "board:" + boardId;
+    }
+
+    public static String views(int boardId) {
+        return "views:" + boardId;
+    }
+
+    /**
+     * 목록 페이지가 의존하는 태그
+     *
+     * @param page 목록 페이지
+     * @param head 첫 페이지 또는 이전(before) 페이지인지
+     */
+    static List<String> forPage(BoardDTO.PageDTO page, boolean head) {
+        List<String> tags = new ArrayList<>(page.getBoardList().size() * 2 + 2);
+        tags.add(LIST);
+        if (head) {
+            tags.add(LIST_HEAD);
+        }
+        for (BoardListDTO board : page.getBoardList()) {
+            tags.add(board(board.getId()));
+            tags.add(views(board.getId()));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,104 @@
+package com.tenco.blog_jpa_step3.board;
+
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글의 댓글 수(reply_count) / 마지막 댓글 시간(last_reply_at) 보정 작업
+ * 평소에는 ReplyService 가 증감시키지만, 직접 SQL 로 데이터를 고친 경우 등 어긋날 수 있으므로
+ * 주기적으로 reply_tb 를 GROUP BY 한번으로 집계하여 다시 맞춥니다.
+ *
+ * - 집계 결과를 List 로 모으지 않고 한 행씩 받아 BATCH_SIZE 개씩 UPDATE 배치로 보냅니다.
+ * - 값이 실제로 다른 게시글만 고치고, 고친 게시글은 version / updated_at 을 올려
+ *   화면 검증값(ETag)이 바뀌게 합니다. (그대로 두면 클라이언트/CDN 이 304 로 옛날 댓글 수를 계속 받음)
+ * - 2차 캐시에서는 고친 게시글만 제거합니다.
+ * (IS DISTINCT FROM 은 H2 문법입니다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardReplyCountRepairJob {
+
+    // 게시글별 활성 댓글 수 / 마지막 댓글 시간 집계 (쿼리 한번)
+    private static final String AGGREGATE_SQL =
+            "SELECT board_id, COUNT(*), MAX(created_at) FROM reply_tb WHERE status = 'ACTIVE' GROUP BY board_id";
+
+    // 값이 다른 게시글만 고친다. (같으면 0 행)
+    private static final String UPDATE_SQL =
+            "UPDATE board_tb SET reply_count = ?, last_reply_at = ?, version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = ? AND (reply_count <> ? OR last_reply_at IS DISTINCT FROM ?)";
+
+    // 활성 댓글이 하나도 없는 게시글은 0 으로 초기화
+    private static final String RESET_SQL =
+            "UPDATE board_tb SET reply_count = 0, last_reply_at = NULL, version = version + 1, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE (reply_count <> 0 OR last_reply_at IS NOT NULL) " +
+            "AND id NOT IN (SELECT DISTINCT board_id FROM reply_tb WHERE status = 'ACTIVE')";
+
+    // 한번에 보내는 UPDATE 배치 크기
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PageCache pageCache;
+
+    /**
+     * 댓글 수 / 마지막 댓글 시간을 일괄 재계산합니다.
+     *
+     * @return 값이 달라서 고친 게시글 수
+     */
+    @Scheduled(cron = "${blog.reply-count.repair-cron:0 0 4 * * *}")
+    @Transactional
+    public int repair() {
+        List<Object[]> batchArgs = new ArrayList<>(BATCH_SIZE);
+        int[] fixed = {0};
+        jdbcTemplate.query(AGGREGATE_SQL, (RowCallbackHandler) rs -> {
+            int count = rs.getInt(2);
+            batchArgs.add(new Object[]{count, rs.getTimestamp(3), rs.getInt(1), count, rs.getTimestamp(3)});
+            if (batchArgs.size() == BATCH_SIZE) {
+                fixed[0] += updateBatch(batchArgs);
+            }
+        });
+        fixed[0] += updateBatch(batchArgs);
+
+        int reset = jdbcTemplate.update(RESET_SQL);
+        if (reset > 0) {
+            // 어느 게시글을 초기화했는지 모르므로 2차 캐시의 게시글 영역 전체 무효화 (평소에는 0 건)
+            entityManagerFactory.getCache().evict(Board.class);
+        }
+        if (fixed[0] + reset > 0) {
+            // 댓글 수는 목록 / 상세 / 검색 화면 모두에 나오므로 페이지 캐시 전체 무효화
+            pageCache.invalidateAll();
+        }
+
+        log.info("댓글 수 보정 완료 - 수정 {}건, 초기화 {}건", fixed[0], reset);
+        return fixed[0] + reset;
+    }
+
+    // 배치 하나를 보내고 실제로 바뀐 게시글만 2차 캐시에서 제거한다.
+    private int updateBatch(List<Object[]> batchArgs) {
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+        int[] results = jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+        int fixed = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] > 0 || results[i] == Statement.SUCCESS_NO_INFO) {
+                entityManagerFactory.getCache().evict(Board.class, batchArgs.get(i)[2]);
+                fixed++;
+            }
+        }
+        batchArgs.clear();
+        return fixed;
+    }
+}
@@ -28,12 +28,21 @@ public class BoardRepository {
     @Transactional // 트랜잭션 내에서 실행되도록 보장
     public void updateByIdJPQL(int id, String title, String content, String username) {
         // JPQL을 사용하여 게시글 수정 쿼리 작성
-        String jpql = "UPDATE Board b SET b.title = :title, b.content = :content  WHERE b.id = :id";
+        String jpql = "UPDATE Board b SET b.title = :title WHERE b.id = :id";
         Query query = em.createQuery(jpql);
         query.setParameter("title", title);
-        query.setParameter("content", content);
         query.setParameter("id", id);
         query.executeUpdate(); // 수정 쿼리 실행
+
+        // 본문은 BoardContent(board_content_tb) 에 있으므로 따로 수정 (압축 여부는 BoardContent 와 같은 규칙)
+        BoardContent body = BoardContent.of(content);
+        em.createQuery("UPDATE BoardContent c SET c.data = :data, c.compressed = :compressed, c.originalLength = :originalLength " +
+                        "WHERE c.id = (SELECT b.body.id FROM Board b WHERE b.id = :id)")
+                .setParameter("data", body.getData())
+                .setParameter("compressed", body.isCompressed())
+                .setParameter("originalLength", body.getOriginalLength())
+                .setParameter("id", id)
+                .executeUpdate();
     }
 
     /**
@@ -72,10 +81,20 @@ public class BoardRepository {
      */
     @Transactional // 트랜잭션 내에서 실행되도록 보장
     public void deleteById(int id){
+        // 벌크 삭제는 cascade 가 적용되지 않으므로 본문 ID 를 먼저 확인해 둔다.
+        List<Integer> contentIds = em.createQuery("SELECT b.body.id FROM Board b WHERE b.id = :id", Integer.class)
+                .setParameter("id", id)
+                .getResultList();
         // JPQL을 사용하여 게시글 삭제 쿼리 작성
         Query query = em.createQuery("DELETE FROM Board b WHERE b.id = :id");
         query.setParameter("id", id);
         query.executeUpdate(); // 삭제 쿼리 실행
+        // 게시글이 본문을 참조하므로 게시글을 지운 뒤 본문 삭제
+        if (!contentIds.isEmpty()) {
+            em.createQuery("DELETE FROM BoardContent c WHERE c.id IN :ids")
+                    .setParameter("ids", contentIds)
+                    .executeUpdate();
+        }
     }
 
     /**
@@ -106,6 +125,21 @@ public class BoardRepository {
                 .getSingleResult();
     }
 
+    /**
+     * 키셋(커서) 페이징 - 메인 화면과 같은 목록 한 페이지 (BoardJPARepository.findPageBefore 와 같은 JPQL)
+     * @param cursor 이전 페이지의 마지막(가장 작은) 게시글 ID
+     * @param size 조회 개수
+     * @return cursor 보다 작은 ID 의 게시글 목록 (ID 내림차순)
+     */
+    public List<BoardListDTO> findPageBefore(int cursor, int size) {
+        return em.createQuery(
+                "SELECT new com.tenco.blog_jpa_step3.board.BoardListDTO(b.id, b.title, b.createdAt, u.username, b.views, b.replyCount, b.lastReplyAt, b.version) " +
+                "FROM Board b LEFT JOIN b.user u WHERE b.id < :cursor ORDER BY b.id DESC", BoardListDTO.class)
+                .setParameter("cursor", cursor)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
     /**
      * 모든 게시글 조회 (Eager Fetching)
      * @return 게시글 리스트
@@ -1,20 +1,67 @@
 package com.tenco.blog_jpa_step3.board;
 
+import com.tenco.blog_jpa_step3.attachment.Attachment;
+import com.tenco.blog_jpa_step3.attachment.AttachmentCleaner;
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
+import com.tenco.blog_jpa_step3.commom.datasource.ReadYourWrites;
 import com.tenco.blog_jpa_step3.commom.errors.Exception403;
 import com.tenco.blog_jpa_step3.commom.errors.Exception404;
+import com.tenco.blog_jpa_step3.commom.markdown.MarkdownRenderer;
+import com.tenco.blog_jpa_step3.reply.ReplyDTO;
+import com.tenco.blog_jpa_step3.reply.ReplyService;
+import com.tenco.blog_jpa_step3.search.BoardSearchIndex;
 import com.tenco.blog_jpa_step3.user.User;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 @Service // 서비스 계층으로 등록
 public class BoardService {
 
+    // 메인 화면 한 페이지에 출력할 게시글 수
+    public static final int PAGE_SIZE = 10;
+
     private final BoardJPARepository boardJPARepository;
+    private final BoardCounterRepository boardCounterRepository;
+    private final ReplyService replyService;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final PageCache pageCache;
+    private final AttachmentCleaner attachmentCleaner;
+    private final MarkdownRenderer markdownRenderer;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BoardService(BoardJPARepository boardJPARepository,
+                        BoardCounterRepository boardCounterRepository,
+                        ReplyService replyService,
+                        BoardDetailCache boardDetailCache,
+                        BoardSearchIndex boardSearchIndex,
+                        PageCache pageCache,
+                        AttachmentCleaner attachmentCleaner,
+                        MarkdownRenderer markdownRenderer,
+                        PlatformTransactionManager transactionManager) {
+        this.boardJPARepository = boardJPARepository;
+        this.boardCounterRepository = boardCounterRepository;
+        this.replyService = replyService;
+        this.boardDetailCache = boardDetailCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.pageCache = pageCache;
+        this.attachmentCleaner = attachmentCleaner;
+        this.markdownRenderer = markdownRenderer;
+        // 캐시 미스 로딩 전용 읽기 전용 트랜잭션 (FlushMode.MANUAL + 읽기 전용 엔티티로 로딩)
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
      * 게시글 ID로 게시글을 조회합니다.
@@ -23,52 +70,69 @@ public class BoardService {
      * @return 해당 ID의 게시글 객체
      * @throws Exception404 게시글을 찾을 수 없는 경우 발생
      */
+    @Transactional(readOnly = true) // 읽기 전용 - 복제(replica) DB 에서 조회
     public Board getBoard(int boardId){
-        // 게시글을 ID로 조회하고, 존재하지 않으면 예외를 던집니다.
-        Board board = boardJPARepository.findById(boardId)
+        // 게시글을 ID로 조회하고(작성자 함께 조회), 존재하지 않으면 예외를 던집니다.
+        Board board = boardJPARepository.findByIdJoinUser(boardId)
                 .orElseThrow(() -> new Exception404("게시글을 찾을 수 없습니다"));
         return board;
     }
 
     /**
      * 게시글의 상세 정보를 조회하고, 현재 사용자가 해당 게시글의 작성자인지 여부를 확인합니다.
+     * 게시글 상세 스냅샷은 BoardDetailCache 에서 먼저 찾고, 없을 때만 DB 에서 읽어 캐시에 저장합니다.
+     * 작성자 여부(isOwner, replyOwner)는 공유 스냅샷을 변경하지 않고 요청마다 따로 계산합니다.
      *
      * @param boardId 조회할 게시글의 ID
      * @param sessionUser 현재 세션에 로그인한 사용자
-     * @return 해당 ID의 게시글 객체에 isOwner 필드를 설정한 후 반환
+     * @return 게시글 스냅샷, 화면 출력용 댓글 목록, 작성자 여부를 담은 DTO
      * @throws Exception404 게시글을 찾을 수 없는 경우 발생
      */
-    public Board getBoardDetails(int boardId, User sessionUser) {
-        // 순서 2
-        // JPQL JOIN FETCH 사용 즉 USER 엔티티 한번게 조인 처리
-        // 그리고 Replay 은 LAZY 전략에 배치 사이즈 설정으로 가져오는 것
-        Board board = boardJPARepository.findByIdJoinUser(boardId)
-                .orElseThrow(() -> new Exception404("게시글을 찾을 수 없습니다"));
+    // 캐시 적중 / 로딩 합류 시 커넥션을 잡지 않도록 트랜잭션을 열지 않는다. (미스 로딩만 트랜잭션 안에서 실행)
+    public BoardDTO.DetailDTO getBoardDetails(int boardId, User sessionUser) {
+        BoardDTO.SnapshotDTO snapshot = boardDetailCache.get(boardId, this::loadBoardSnapshot);
+        return new BoardDTO.DetailDTO(snapshot, sessionUser);
+    }
 
-        // 현재 사용자가 게시글의 작성자인지 확인하여 isOwner 필드를 설정합니다.
-        boolean isOwner = false;
-        if(sessionUser != null){
-            if(sessionUser.getId().equals(board.getUser().getId())){
-                isOwner = true;
-            }
+    /**
+     * 게시글 상세 화면의 검증값(버전, 마지막 변경 시간)을 조회합니다.
+     * 캐시에 스냅샷이 있으면 SQL 없이 스냅샷의 버전을, 없으면 컬럼 두 개만 읽는 쿼리 한번으로 가져옵니다.
+     * 게시글/댓글 엔티티는 로딩하지 않습니다.
+     *
+     * @param boardId 게시글 ID
+     * @return 게시글 버전 정보
+     * @throws Exception404 게시글을 찾을 수 없는 경우 발생
+     */
+    // 캐시 적중 시 커넥션도 잡지 않도록 트랜잭션을 열지 않는다. (저장소 조회 메서드는 자체 읽기 전용 트랜잭션)
+    public BoardVersionDTO getBoardVersion(int boardId) {
+        BoardDTO.SnapshotDTO snapshot = boardDetailCache.peek(boardId);
+        if (snapshot != null) {
+            return snapshot.getVersion();
         }
+        return boardJPARepository.findVersionById(boardId)
+                .orElseThrow(() -> new Exception404("게시글을 찾을 수 없습니다"));
+    }
 
-        // 집중!
-        // 댓글 정보에 내가 작성한 글인지 확인해서 상태값 설정하기
-        board.getReplies().forEach(reply -> {
-            boolean isReplayOwner = false;
-            if(sessionUser != null) {
-                if(reply.getUser().getId() == sessionUser.getId()) {
-                    isReplayOwner = true;
-                }
-            }
-            // 안에서 ...
-            reply.setReplyOwner(isReplayOwner);
-        });
+    /**
+     * 캐시 미스 시 DB 에서 게시글 상세 스냅샷을 만듭니다.
+     * 게시글+작성자 1번, 댓글 첫 페이지+댓글 작성자 1번, 댓글 수와 상관없이 항상 쿼리 2번으로 끝납니다.
+     * 스냅샷은 다음 쓰기(무효화)까지 모든 요청에 공유되므로, 쓰기 직후 늦게 따라오는 복제 DB 가 아닌 주 DB 에서 읽습니다.
+     *
+     * @param boardId 조회할 게시글의 ID
+     * @return 게시글 상세 스냅샷
+     * @throws Exception404 게시글을 찾을 수 없는 경우 발생
+     */
+    private BoardDTO.SnapshotDTO loadBoardSnapshot(int boardId) {
+        return ReadYourWrites.readFromPrimary(() -> readOnlyTransaction.execute(status -> {
+            // 1. JPQL JOIN FETCH 사용 즉 USER 엔티티 한번에 조인 처리
+            Board board = boardJPARepository.findByIdJoinUser(boardId)
+                    .orElseThrow(() -> new Exception404("게시글을 찾을 수 없습니다"));
 
-        // 코드 추가
-        board.setOwner(isOwner); // @Transient 필드 설정
-        return board;
+            // 2. 댓글 첫 페이지와 댓글 작성자를 한번에 조회 (삭제된 댓글은 SQL 에서 제외)
+            ReplyDTO.PageDTO replyPage = replyService.getReplyPage(boardId, null);
+            // 3. 본문 Markdown -> HTML (같은 본문이면 캐시된 결과 재사용)
+            return new BoardDTO.SnapshotDTO(board, replyPage, markdownRenderer.renderCached(board.getContent()));
+        }));
     }
 
     /**
@@ -80,7 +144,11 @@ public class BoardService {
     @Transactional // 트랜잭션 관리: 데이터베이스 연산이 성공적으로 완료되면 커밋, 실패하면 롤백
     public void createBoard(BoardDTO.SaveDTO reqDTO, User sessionUser){
         // 요청 DTO를 엔티티로 변환하여 저장합니다.
-        boardJPARepository.save(reqDTO.toEntity(sessionUser));
+        Board board = boardJPARepository.save(reqDTO.toEntity(sessionUser));
+        // 새 게시글이 보이는 첫 페이지 캐시 무효화
+        pageCache.invalidate(BoardPageTags.LIST_HEAD);
+        // 커밋 후 검색 색인에 추가
+        boardSearchIndex.putAfterCommit(board.getId(), board.getTitle(), board.getContent());
     }
 
     /**
@@ -107,6 +175,13 @@ public class BoardService {
         board.setTitle(reqDTO.getTitle());
         board.setContent(reqDTO.getContent());
         // 더티 체킹을 통해 변경 사항이 자동으로 반영됩니다.
+        // 화면 검증값(ETag)이 바뀌도록 버전 증가 (제목/내용 UPDATE 는 커밋 시 flush, version 컬럼은 건드리지 않음)
+        boardCounterRepository.bumpVersion(boardId);
+
+        // 4. 게시글 상세 / 페이지 캐시 무효화, 커밋 후 검색 색인 갱신
+        boardDetailCache.invalidate(boardId);
+        pageCache.invalidate(BoardPageTags.board(boardId));
+        boardSearchIndex.putAfterCommit(boardId, reqDTO.getTitle(), reqDTO.getContent());
     }
 
 
@@ -129,21 +204,78 @@ public class BoardService {
             throw new Exception403("게시글을 삭제할 권한이 없습니다");
         }
 
-        // 3. 게시글을 삭제합니다.
+        // 3. 게시글을 삭제합니다. (첨부파일 메타데이터는 cascade 로 함께 삭제)
+        List<String> attachmentHashes = board.getAttachments().stream().map(Attachment::getHash).toList();
         boardJPARepository.deleteById(boardId);
+        // 커밋 후 다른 게시글이 참조하지 않는 첨부파일을 백그라운드에서 디스크에서 삭제
+        attachmentCleaner.cleanupAfterCommit(attachmentHashes);
+
+        // 4. 게시글 상세 / 페이지 캐시 무효화, 커밋 후 검색 색인에서 제거
+        boardDetailCache.invalidate(boardId);
+        pageCache.invalidate(List.of(BoardPageTags.board(boardId), BoardPageTags.LIST));
+        boardSearchIndex.removeAfterCommit(boardId);
     }
 
 
     /**
-     * 모든 게시글을 조회하여 리스트로 반환합니다.
+     * 게시글 목록을 키셋(커서) 방식으로 한 페이지만 조회합니다.
      * 게시글은 ID를 기준으로 내림차순 정렬됩니다.
+     * OFFSET 없이 ID 조건으로 바로 찾아가기 때문에 게시글이 아무리 많아도 페이지당 비용은 일정합니다.
      *
-     * @return 모든 게시글의 리스트
+     * @param cursor 다음 페이지 요청 시 전달되는 커서 (이전 페이지의 마지막 게시글 ID), 첫 페이지는 null
+     * @param before 이전 페이지 요청 시 전달되는 커서 (현재 페이지의 첫번째 게시글 ID)
+     * @return 한 페이지 분량의 게시글과 이전/다음 커서 정보
      */
-    public List<Board> getAllBoards() {
-        // 게시글을 ID 기준으로 내림차순 정렬하여 모두 조회합니다.
-        Sort sort = Sort.by(Sort.Direction.DESC, "id");
-        return boardJPARepository.findAll(sort);
+    @Transactional(readOnly = true)
+    public BoardDTO.PageDTO getBoardPage(Integer cursor, Integer before) {
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건을 더 조회합니다.
+        Pageable limit = PageRequest.of(0, PAGE_SIZE + 1);
+
+        if (before != null) {
+            // 이전 페이지: before 보다 큰 ID 를 오름차순으로 읽은 뒤 뒤집는다.
+            List<BoardListDTO> rows = boardJPARepository.findPageAfter(before, limit);
+            boolean hasPrev = rows.size() > PAGE_SIZE;
+            if (!hasPrev) {
+                // 더 이상 앞쪽 글이 없다면 첫 페이지를 꽉 채워서 보여준다.
+                return getBoardPage(null, null);
+            }
+            List<BoardListDTO> boardList = new ArrayList<>(rows.subList(0, PAGE_SIZE));
+            Collections.reverse(boardList);
+            return new BoardDTO.PageDTO(boardList, true, true);
+        }
+
+        // 다음 페이지(또는 첫 페이지): cursor 보다 작은 ID 를 내림차순으로 읽는다.
+        int start = (cursor == null) ? Integer.MAX_VALUE : cursor;
+        List<BoardListDTO> rows = boardJPARepository.findPageBefore(start, limit);
+        boolean hasNext = rows.size() > PAGE_SIZE;
+        List<BoardListDTO> boardList = hasNext ? rows.subList(0, PAGE_SIZE) : rows;
+        return new BoardDTO.PageDTO(boardList, cursor != null, hasNext);
+    }
+
+    /**
+     * 게시글 제목/내용을 검색합니다.
+     * 메모리 검색 색인에서 순위가 매겨진 ID 를 한 페이지만 찾고,
+     * 그 ID 들의 목록 정보만 쿼리 한번으로 가져와서 검색 순위대로 정렬합니다.
+     *
+     * @param q 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @return 검색 결과 페이지
+     */
+    @Transactional(readOnly = true)
+    public BoardDTO.SearchPageDTO searchBoards(String q, int page) {
+        int safePage = Math.max(page, 0);
+        BoardSearchIndex.Hits hits = boardSearchIndex.search(q, safePage, PAGE_SIZE);
+        if (hits.getIds().isEmpty()) {
+            return new BoardDTO.SearchPageDTO(q, List.of(), hits.getTotal(), safePage, PAGE_SIZE);
+        }
+
+        Map<Integer, BoardListDTO> byId = boardJPARepository.findListByIdIn(hits.getIds()).stream()
+                .collect(Collectors.toMap(BoardListDTO::getId, Function.identity()));
+        List<BoardListDTO> boardList = hits.getIds().stream()
+                .map(byId::get)
+                .filter(board -> board != null) // 색인 반영 전에 삭제된 게시글 제외
+                .toList();
+        return new BoardDTO.SearchPageDTO(q, boardList, hits.getTotal(), safePage, PAGE_SIZE);
     }
 
 }
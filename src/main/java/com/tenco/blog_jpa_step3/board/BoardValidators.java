@@ -0,0 +1,66 @@
+package com.tenco.blog_jpa_step3.board;
+
+import com.tenco.blog_jpa_step3.user.User;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 게시글 화면의 강한 검증값(ETag)을 만드는 도구입니다.
+ *
+ * 화면에는 로그인 여부(헤더 메뉴)와 작성자 여부(수정/삭제 버튼)가 함께 렌더링되므로
+ * ETag 에 보는 사람(비로그인 = anon, 로그인 = 사용자 ID)을 넣어서
+ * 작성자와 다른 사용자, 비로그인 사용자가 같은 검증값을 공유하지 않게 합니다.
+ */
+final class BoardValidators {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private BoardValidators() {
+    }
+
+    /**
+     * 게시글 상세 화면 ETag - 게시글 버전이 같으면 (제목, 내용, 댓글 첫 페이지) 화면도 같다.
+     */
+    static String detailEtag(int boardId, long version, User viewer) {
+        return "\"d" + boardId + "-v" + version + "-" + viewerKey(viewer) + "\"";
+    }
+
+    /**
+     * 게시글 목록 화면 ETag - 페이지에 나온 게시글의 (ID, 버전, 조회수)와 이전/다음 버튼 상태로 계산한다.
+     * 제목 / 댓글 수 / 마지막 댓글 시간은 바뀔 때마다 버전이 올라가므로 따로 넣지 않는다.
+     */
+    static String pageEtag(BoardDTO.PageDTO page, User viewer) {
+        long hash = FNV_OFFSET;
+        for (BoardListDTO board : page.getBoardList()) {
+            hash = mix(hash, board.getId());
+            hash = mix(hash, board.getVersion());
+            hash = mix(hash, board.getViews());
+        }
+        hash = mix(hash, (page.isHasPrev() ? 1 : 0) | (page.isHasNext() ? 2 : 0));
+        return "\"l" + Long.toHexString(hash) + "-" + viewerKey(viewer) + "\"";
+    }
+
+    /**
+     * 검증값과 함께 내려보낼 캐시 헤더
+     * no-cache: 저장은 하되 매번 검증(조건부 요청) 후 사용
+     * 로그인 사용자 화면은 공유 캐시(CDN)에 저장하지 않도록 private
+     */
+    static void cacheHeaders(HttpServletResponse response, User viewer) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, viewer == null ? "no-cache" : "private, no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+    }
+
+    private static String viewerKey(User viewer) {
+        return viewer == null ? "anon" : "u" + viewer.getId();
+    }
+
+    // FNV-1a 64bit (8바이트씩)
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
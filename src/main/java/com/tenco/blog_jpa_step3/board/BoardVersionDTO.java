@@ -0,0 +1,21 @@
+package com.tenco.blog_jpa_step3.board;
+
+import lombok.Getter;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 상세 화면의 검증값(ETag / Last-Modified)을 만들기 위한 읽기 모델입니다.
+ * 캐시된 스냅샷이 있으면 스냅샷에서, 없으면 JPQL 생성자 표현식으로 컬럼만 조회하여 만듭니다.
+ */
+@Getter
+public class BoardVersionDTO {
+    private final long version; // 게시글 버전 (board_tb.version)
+    private final long lastModified; // 마지막 변경 시간 (epoch millis, 알 수 없으면 -1)
+
+    public BoardVersionDTO(long version, Timestamp updatedAt, Timestamp createdAt) {
+        this.version = version;
+        Timestamp modified = updatedAt != null ? updatedAt : createdAt;
+        this.lastModified = modified == null ? -1 : modified.getTime();
+    }
+}
@@ -0,0 +1,103 @@
+package com.tenco.blog_jpa_step3.board;
+
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 카운터 (write-behind)
+ * 상세보기 요청마다 UPDATE 를 실행하면 읽기 위주의 요청이 행 잠금 경쟁이 있는 쓰기 요청이 되어 버립니다.
+ * 그래서 조회수는 게시글 ID 별 LongAdder 에 메모리로 누적해 두고,
+ * 일정 주기마다 누적된 증가분만 JDBC 배치 UPDATE 한번으로 반영합니다.
+ * 애플리케이션이 정상 종료될 때도 마지막으로 한번 반영합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardViewCounter {
+
+    private static final String UPDATE_SQL = "UPDATE board_tb SET views = views + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PageCache pageCache;
+
+    // 게시글 ID -> 아직 DB 에 반영되지 않은 조회수 증가분
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수를 1 증가시킵니다. (메모리에만 누적, DB 잠금 없음)
+     * 맵 밖에서 LongAdder 를 꺼내 증가시키면 flush 가 그 사이에 항목을 지울 때 증가분이 사라지므로,
+     * 증가는 항상 compute 안에서 합니다. (같은 키의 flush 정리와 직렬화, 다른 게시글끼리는 경쟁 없음)
+     *
+     * @param boardId 게시글 ID
+     */
+    public void increment(int boardId) {
+        add(boardId, 1);
+    }
+
+    /**
+     * 누적된 조회수 증가분을 JDBC 배치로 한번에 DB 에 반영합니다.
+     * 반영에 실패한 증가분은 다시 메모리에 되돌려 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${blog.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Integer boardId : pending.keySet()) {
+            pending.computeIfPresent(boardId, (id, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta > 0) {
+                    batchArgs.add(new Object[]{delta, id});
+                    return adder;
+                }
+                // 지난 주기 이후 조회되지 않은 게시글은 맵에서 정리 (increment 와 같은 잠금 안이라 증가분 유실 없음)
+                return null;
+            });
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        // 게시글 ID 순서로 정렬하여 여러 인스턴스가 동시에 반영할 때 잠금 순서를 통일
+        batchArgs.sort((a, b) -> Integer.compare((Integer) a[1], (Integer) b[1]));
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+            // JPA 를 거치지 않은 UPDATE 이므로 2차 캐시에 남은 게시글(이전 조회수)을 직접 제거
+            Cache cache = entityManagerFactory.getCache();
+            batchArgs.forEach(args -> cache.evict(Board.class, args[1]));
+            // 조회수가 바뀐 게시글이 나온 목록 페이지 캐시 무효화 (상세 페이지에는 조회수가 없으므로 유지)
+            pageCache.invalidate(batchArgs.stream().map(args -> BoardPageTags.views((Integer) args[1])).toList());
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영 실패 - 다음 주기에 재시도합니다. ({}건)", batchArgs.size(), e);
+            batchArgs.forEach(args -> add((Integer) args[1], (Long) args[0]));
+        }
+    }
+
+    private void add(int boardId, long delta) {
+        pending.compute(boardId, (id, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.add(delta);
+            return target;
+        });
+    }
+
+    /**
+     * 정상 종료 시 남아 있는 조회수를 마지막으로 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -4,6 +4,7 @@ import com.tenco.blog_jpa_step3.commom.errors.*;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.ModelAndView;
 
 
@@ -20,6 +21,16 @@ public class GlobalExceptionHandler {
     }
 
 
+    /**
+     * 첨부파일 크기 제한(spring.servlet.multipart) 초과
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ModelAndView handleMaxUploadSize(MaxUploadSizeExceededException ex) {
+        ModelAndView mav = new ModelAndView("error/400");
+        mav.addObject("msg", "첨부파일 크기가 너무 큽니다");
+        return mav;
+    }
+
     /**
      * 401 Unauthorized 예외 처리
      */
@@ -0,0 +1,287 @@
+package com.tenco.blog_jpa_step3.commom.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비로그인 사용자에게 보여주는 완성된 HTML 페이지(gzip 압축된 바이트)를 URL 기준으로 보관하는 캐시입니다.
+ * PageCacheFilter 가 조회/저장하고, 데이터를 바꾸는 쪽에서 태그 단위로 무효화합니다.
+ *
+ * - 크기 제한은 항목 수가 아니라 압축된 바이트 합계(blog.cache.page.max-bytes) 기준입니다.
+ * - 컨트롤러가 cacheable(...) 로 "이 페이지가 어떤 데이터(태그)에 의존하는지" 알려준 응답만 저장합니다.
+ *   태그가 무효화되면 그 태그에 의존하는 페이지만 제거됩니다. (예: 게시글 4번 -> 4번 상세, 4번이 나온 목록 페이지)
+ * - 렌더링이 시작된 뒤 그 페이지의 태그가 무효화되었다면 결과를 저장하지 않습니다. (옛날 데이터로 다시 채우는 경우 방지)
+ *   무효화마다 증가하는 순번을 태그별로 기록해 두고 비교하므로, 관계없는 태그의 무효화(조회수 반영 등)는 영향을 주지 않습니다.
+ * - 저장된 페이지는 blog.cache.page.ttl-seconds 가 지나면 제거됩니다.
+ *   (복제 DB 가 늦게 따라온 상태에서 채워진 페이지처럼 무효화로 잡히지 않는 오래된 페이지가 계속 남지 않도록)
+ */
+@Component
+public class PageCache {
+
+    // 컨트롤러 -> 필터로 캐시 가능 여부를 전달하는 요청 속성
+    static final String TAGS_ATTRIBUTE = PageCache.class.getName() + ".TAGS";
+    static final String ON_HIT_ATTRIBUTE = PageCache.class.getName() + ".ON_HIT";
+
+    // 캐시 키에 포함하는 쿼리 파라미터 (이 외의 파라미터가 있으면 캐시하지 않음)
+    private static final Set<String> KEY_PARAMETERS = Set.of("cursor", "before");
+    // 무효화 순번을 기억해 두는 최대 태그 수 (넘으면 오래된 태그부터 잊고 stampFloor 로 보수적으로 판단)
+    private static final long MAX_TAG_STAMPS = 100_000;
+
+    private final boolean enabled;
+    private final Cache<String, Page> cache;
+    // 태그 -> (캐시 키 -> 저장된 페이지)
+    private final Map<String, Map<String, Page>> keysByTag = new ConcurrentHashMap<>();
+    // 무효화할 때마다 증가하는 순번 - 렌더링 시작 시점의 값과 태그별 무효화 순번을 비교한다.
+    private final AtomicLong epoch = new AtomicLong();
+    // 태그 -> 마지막으로 무효화된 순번
+    private final Cache<String, Long> tagStamps;
+    // tagStamps 에서 밀려난 태그 순번의 최댓값 (기록이 없는 태그는 이 순번에 무효화되었다고 본다)
+    private final AtomicLong stampFloor = new AtomicLong();
+    // 마지막 invalidateAll 순번
+    private final AtomicLong allStamp = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder storeCount = new LongAdder();
+    private final LongAdder staleDropCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public PageCache(@Value("${blog.cache.page.enabled:true}") boolean enabled,
+                     @Value("${blog.cache.page.max-bytes:33554432}") long maxBytes,
+                     @Value("${blog.cache.page.ttl-seconds:60}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Page page) -> page.weight(key))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .removalListener((String key, Page page, RemovalCause cause) -> unregister(key, page))
+                .build();
+        this.tagStamps = Caffeine.newBuilder()
+                .maximumSize(MAX_TAG_STAMPS)
+                // 밀려나는 항목이 맵에서 사라지기 전에 동기적으로 실행된다. (기록이 없으면 floor 가 이미 반영된 상태)
+                .evictionListener((String tag, Long stamp, RemovalCause cause) ->
+                        stampFloor.accumulateAndGet(stamp, Math::max))
+                .build();
+    }
+
+    /**
+     * 컨트롤러에서 호출 - 이 요청의 응답(비로그인 사용자일 때)을 페이지 캐시에 저장해도 된다고 표시합니다.
+     *
+     * @param request 현재 요청
+     * @param onHit 캐시에서 응답할 때마다 실행할 작업 (예: 조회수 증가), 없으면 null
+     * @param tags 이 페이지가 의존하는 데이터 태그
+     */
+    public static void cacheable(HttpServletRequest request, Runnable onHit, Collection<String> tags) {
+        request.setAttribute(TAGS_ATTRIBUTE, Set.copyOf(tags));
+        if (onHit != null) {
+            request.setAttribute(ON_HIT_ATTRIBUTE, onHit);
+        }
+    }
+
+    /**
+     * 요청의 캐시 키 (경로 + 허용된 쿼리 파라미터를 이름순으로)
+     *
+     * @return 캐시 키, 캐시할 수 없는 요청이면 null
+     */
+    String keyOf(HttpServletRequest request) {
+        if (!enabled || !"GET".equals(request.getMethod())) {
+            return null;
+        }
+        Map<String, String[]> parameters = request.getParameterMap();
+        if (parameters.isEmpty()) {
+            return request.getRequestURI();
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        for (Map.Entry<String, String[]> entry : parameters.entrySet()) {
+            if (!KEY_PARAMETERS.contains(entry.getKey()) || entry.getValue().length != 1) {
+                return null;
+            }
+            sorted.put(entry.getKey(), entry.getValue()[0]);
+        }
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        char separator = '?';
+        for (Map.Entry<String, String> entry : sorted.entrySet()) {
+            key.append(separator).append(entry.getKey()).append('=').append(entry.getValue());
+            separator = '&';
+        }
+        return key.toString();
+    }
+
+    Page get(String key) {
+        Page page = cache.getIfPresent(key);
+        if (page == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return page;
+    }
+
+    long epoch() {
+        return epoch.get();
+    }
+
+    /**
+     * 렌더링한 페이지를 저장합니다.
+     * 태그를 먼저 등록한 뒤 저장하고, 렌더링 시작(startEpoch) 이후에 그 태그가 무효화되었다면 바로 제거합니다.
+     * (무효화는 태그 순번을 먼저 기록한 뒤 태그의 키를 제거하므로 둘 중 한쪽에서는 반드시 걸러진다)
+     */
+    void put(String key, Page page, Set<String> tags, long startEpoch) {
+        if (invalidatedSince(tags, startEpoch)) {
+            staleDropCount.increment();
+            return;
+        }
+        page.tags = tags;
+        for (String tag : tags) {
+            keysByTag.computeIfAbsent(tag, t -> new ConcurrentHashMap<>()).put(key, page);
+        }
+        cache.put(key, page);
+        if (invalidatedSince(tags, startEpoch)) {
+            cache.asMap().remove(key, page);
+            staleDropCount.increment();
+            return;
+        }
+        storeCount.increment();
+    }
+
+    /**
+     * 태그에 의존하는 페이지를 모두 제거합니다.
+     * 트랜잭션 안에서 호출되면 커밋 직후에 한번 더 제거하여,
+     * 커밋 전에 다른 요청이 옛날 데이터로 다시 채우는 경우를 막습니다.
+     *
+     * @param tags 바뀐 데이터의 태그
+     */
+    public void invalidate(Collection<String> tags) {
+        evict(tags);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(tags);
+                }
+            });
+        }
+    }
+
+    public void invalidate(String tag) {
+        invalidate(Set.of(tag));
+    }
+
+    /**
+     * 모든 페이지를 제거합니다.
+     */
+    public void invalidateAll() {
+        allStamp.accumulateAndGet(epoch.incrementAndGet(), Math::max);
+        cache.invalidateAll();
+        keysByTag.clear();
+    }
+
+    private void evict(Collection<String> tags) {
+        long stamp = epoch.incrementAndGet();
+        invalidationCount.increment();
+        for (String tag : tags) {
+            tagStamps.asMap().merge(tag, stamp, Math::max);
+        }
+        for (String tag : tags) {
+            Map<String, Page> keys = keysByTag.remove(tag);
+            if (keys != null) {
+                cache.invalidateAll(keys.keySet());
+            }
+        }
+    }
+
+    // since 순번 이후에 태그 중 하나라도 (또는 전체가) 무효화되었는지
+    private boolean invalidatedSince(Set<String> tags, long since) {
+        if (allStamp.get() > since) {
+            return true;
+        }
+        for (String tag : tags) {
+            Long stamp = tagStamps.getIfPresent(tag);
+            if (stamp != null ? stamp > since : stampFloor.get() > since) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 제거된 페이지를 태그 색인에서 정리 (같은 키로 새로 저장된 페이지는 건드리지 않음)
+    private void unregister(String key, Page page) {
+        if (page == null || page.tags == null) {
+            return;
+        }
+        for (String tag : page.tags) {
+            keysByTag.computeIfPresent(tag, (t, keys) -> {
+                keys.remove(key, page);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * 캐시 통계 (관리자 화면 노출용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("bytes", cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L));
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+        result.put("hitCount", hits);
+        result.put("missCount", misses);
+        result.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        result.put("storeCount", storeCount.sum());
+        result.put("staleDropCount", staleDropCount.sum());
+        result.put("invalidationCount", invalidationCount.sum());
+        result.put("tagCount", keysByTag.size());
+        return result;
+    }
+
+    /**
+     * 저장된 페이지 - 본문은 gzip 으로 압축된 상태로만 보관합니다.
+     */
+    @Getter
+    static class Page {
+        private final byte[] gzipBody;
+        private final int rawLength;
+        private final String contentType;
+        private final String etag;
+        private final long lastModified;
+        private final String cacheControl;
+        private final Runnable onHit;
+        private volatile Set<String> tags;
+
+        Page(byte[] gzipBody, int rawLength, String contentType, String etag, long lastModified,
+             String cacheControl, Runnable onHit) {
+            this.gzipBody = gzipBody;
+            this.rawLength = rawLength;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.cacheControl = cacheControl;
+            this.onHit = onHit;
+        }
+
+        // 압축된 본문 + 키 + 객체/헤더 대략치
+        int weight(String key) {
+            return gzipBody.length + key.length() * 2 + 256;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.tenco.blog_jpa_step3.commom.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비로그인 사용자의 페이지 요청을 PageCache 에서 바로 응답하는 필터입니다.
+ *
+ * - 세션에 sessionUser 가 있으면(로그인) 아무것도 하지 않고 그대로 통과시킵니다.
+ * - 캐시에 있으면 컨트롤러/DB/템플릿을 거치지 않고 저장된 gzip 바이트를 그대로 씁니다.
+ *   (gzip 을 받지 않는 클라이언트에게만 압축을 풀어서 보냄, If-None-Match 가 같으면 304)
+ * - 캐시에 없으면 응답 본문을 메모리에 모았다가, 컨트롤러가 PageCache.cacheable(...) 로 표시한
+ *   200 text/html 응답만 압축하여 저장합니다. 그 외 응답은 모은 본문을 그대로 내보냅니다.
+ *
+ * 본문을 메모리에 모으므로 PageCache.keyOf 가 허용하는 GET 요청(경로 + cursor/before 파라미터)에만 적용합니다.
+ */
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Component
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    private static final String SESSION_USER = "sessionUser";
+    private static final String CACHE_HEADER = "X-Page-Cache";
+
+    private final PageCache pageCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        // 메인 목록(/)과 게시글 상세(/board/{id})만 대상
+        return !("/".equals(uri) || uri.matches("/board/\\d+"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = isLoggedIn(request) ? null : pageCache.keyOf(request);
+        if (key == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // 1. 캐시 적중 - 컨트롤러를 거치지 않고 응답
+        PageCache.Page page = pageCache.get(key);
+        if (page != null) {
+            if (page.getOnHit() != null) {
+                page.getOnHit().run();
+            }
+            response.setHeader(CACHE_HEADER, "HIT");
+            writeCached(page, request, response);
+            return;
+        }
+
+        // 2. 캐시 미스 - 본문을 모아서 렌더링 결과 확인
+        long startEpoch = pageCache.epoch();
+        response.setHeader(CACHE_HEADER, "MISS");
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        @SuppressWarnings("unchecked")
+        Set<String> tags = (Set<String>) request.getAttribute(PageCache.TAGS_ATTRIBUTE);
+        String contentType = wrapper.getContentType();
+        if (tags == null
+                || wrapper.getStatus() != HttpServletResponse.SC_OK
+                || contentType == null || !contentType.startsWith("text/html")
+                || response.containsHeader(HttpHeaders.SET_COOKIE)
+                || isLoggedIn(request)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        page = new PageCache.Page(gzip(body), body.length, contentType,
+                response.getHeader(HttpHeaders.ETAG),
+                response.getDateHeader(HttpHeaders.LAST_MODIFIED),
+                response.getHeader(HttpHeaders.CACHE_CONTROL),
+                (Runnable) request.getAttribute(PageCache.ON_HIT_ATTRIBUTE));
+        pageCache.put(key, page, tags, startEpoch);
+
+        // 이미 압축했으므로 받을 수 있는 클라이언트에게는 압축본을 보낸다.
+        wrapper.resetBuffer();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request)) {
+            writeGzip(page, response);
+        } else {
+            writeBody(body, response);
+        }
+    }
+
+    private void writeCached(PageCache.Page page, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(page.getContentType());
+        if (page.getCacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, page.getCacheControl());
+        }
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        // ETag / Last-Modified 설정 + 조건부 요청 비교
+        if (page.getEtag() != null && new ServletWebRequest(request, response).checkNotModified(page.getEtag(), page.getLastModified())) {
+            return;
+        }
+        if (acceptsGzip(request)) {
+            writeGzip(page, response);
+        } else {
+            writeBody(gunzip(page.getGzipBody(), page.getRawLength()), response);
+        }
+    }
+
+    private static void writeGzip(PageCache.Page page, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        writeBody(page.getGzipBody(), response);
+    }
+
+    private static void writeBody(byte[] body, HttpServletResponse response) throws IOException {
+        response.setContentLength(body.length);
+        OutputStream out = response.getOutputStream();
+        out.write(body);
+        out.flush();
+    }
+
+    private static boolean isLoggedIn(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session != null && session.getAttribute(SESSION_USER) != null;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] gzipBody, int rawLength) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+            byte[] body = new byte[rawLength];
+            int offset = 0;
+            int read;
+            while (offset < rawLength && (read = in.read(body, offset, rawLength - offset)) > 0) {
+                offset += read;
+            }
+            return body;
+        }
+    }
+}
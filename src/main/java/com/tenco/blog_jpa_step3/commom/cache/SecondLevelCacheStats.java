@@ -0,0 +1,44 @@
+package com.tenco.blog_jpa_step3.commom.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 영역별 통계
+ * hibernate.generate_statistics 가 꺼져 있으면 모든 값이 0 입니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class SecondLevelCacheStats {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * @return 영역 이름 -> hit / miss / put / hitRatio / 메모리에 있는 항목 수
+     */
+    public Map<String, Object> stats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", statistics.isStatisticsEnabled());
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = statistics.getDomainDataRegionStatistics(region);
+            long hits = regionStats.getHitCount();
+            long misses = regionStats.getMissCount();
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("hitCount", hits);
+            item.put("missCount", misses);
+            item.put("putCount", regionStats.getPutCount());
+            item.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+            item.put("elementCountInMemory", regionStats.getElementCountInMemory());
+            result.put(region, item);
+        }
+        return result;
+    }
+}
@@ -1,6 +1,8 @@
 package com.tenco.blog_jpa_step3.commom.config;
 
 
+import com.tenco.blog_jpa_step3.commom.metrics.RequestMetrics;
+import com.tenco.blog_jpa_step3.commom.metrics.TimingInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,4 +22,12 @@ public class InterceptorConfig {
         return new AdminInterceptor();
     }
 
+    /**
+     * 라우트별 처리 시간 측정 인터셉터를 빈으로 등록
+     */
+    @Bean
+    public TimingInterceptor timingInterceptor(RequestMetrics requestMetrics) {
+        return new TimingInterceptor(requestMetrics);
+    }
+
 }
\ No newline at end of file
@@ -18,7 +18,6 @@ public class LoginInterceptor  implements HandlerInterceptor {
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
 
-        System.out.println("LoginInterceptor preHandle 실행");
         HttpSession session = request.getSession(false); // 기존 세션이 없으면 null 반환
 
         if (session == null) {
@@ -34,21 +33,4 @@ public class LoginInterceptor  implements HandlerInterceptor {
         return true;
     }
 
-    /**
-     * 컨트롤러 메서드 실행 후, 뷰가 렌더링되기 전에 실행되는 메서드
-     */
-    @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
-                           org.springframework.web.servlet.ModelAndView modelAndView) throws Exception {
-        System.out.println("LoginInterceptor postHandle 실행");
-    }
-
-    /**
-     * 뷰가 렌더링된 후 실행되는 메서드
-     */
-    @Override
-    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
-        System.out.println("LoginInterceptor afterCompletion 실행");
-    }
-
 }
@@ -1,5 +1,6 @@
 package com.tenco.blog_jpa_step3.commom.config;
 
+import com.tenco.blog_jpa_step3.commom.metrics.TimingInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -14,15 +15,25 @@ public class WebConfig implements WebMvcConfigurer {
     @Autowired
     private AdminInterceptor adminInterceptor;
 
+    @Autowired
+    private TimingInterceptor timingInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 처리 시간 측정 인터셉터 - 다른 인터셉터보다 먼저 등록하여 전체 시간을 감싼다.
+        registry.addInterceptor(timingInterceptor)
+                .addPathPatterns("/**");
+
         // 로그인 인터셉터 적용
         registry.addInterceptor(loginInterceptor)
                 .addPathPatterns("/board/**", "/user/**", "/reply/**")
-                .excludePathPatterns("/board/{id:\\d+}");
+                .excludePathPatterns("/board/{id:\\d+}", "/board/{id:\\d+}/replies", "/board/search",
+                        "/board/{id:\\d+}/attachments/{attachmentId:\\d+}");
                 // 인터셉터 적용에서 제외할 URL 패턴을 지정
                 // /board/ 뒤에 숫자로 이루어진 id를 갖는 URL을 의미 한다.
                 // ex) /board/1, /board/42
+                // 댓글 더보기(/board/1/replies), 검색(/board/search), 첨부파일 다운로드(/board/1/attachments/7)도
+                // 비로그인 사용자가 볼 수 있어야 한다.
                 // \d+는 숫자 하나 이상을 의미하는 정규표현식 패턴
                 // 백슬래시(\)는 이스케이프 문자
 
@@ -0,0 +1,9 @@
+package com.tenco.blog_jpa_step3.commom.datasource;
+
+/**
+ * 라우팅 대상 데이터소스
+ */
+public enum DataSourceType {
+    PRIMARY, // 쓰기 + 읽기-자기-쓰기(read-your-writes) 구간의 읽기
+    REPLICA  // @Transactional(readOnly = true) 읽기
+}
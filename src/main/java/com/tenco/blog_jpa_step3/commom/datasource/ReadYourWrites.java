@@ -0,0 +1,85 @@
+package com.tenco.blog_jpa_step3.commom.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기-자기-쓰기(read-your-writes) 보장용 요청 스레드 상태
+ *
+ * 복제 DB 는 주 DB 보다 조금 늦게 반영되므로, 사용자가 글을 쓴 직후 목록/상세를 복제 DB 에서 읽으면
+ * 방금 쓴 글이 보이지 않을 수 있습니다. ReadYourWritesFilter 가 쓰기 직후 일정 시간 동안
+ * 그 사용자(세션)의 요청을 pinned 로 표시하면, 읽기 전용 트랜잭션이라도 주 DB 로 보냅니다.
+ *
+ * 세션이 아직 없는 요청(로그인 등)처럼 복제 지연을 허용할 수 없는 읽기는 readFromPrimary 로 감쌉니다.
+ */
+public final class ReadYourWrites {
+
+    // 세션에 저장하는 "이 시각까지는 주 DB 에서 읽기" (epoch millis)
+    static final String SESSION_KEY = "readPrimaryUntil";
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+    // readFromPrimary 실행 중인지 (요청 필터와 상관없이 동작)
+    private static final ThreadLocal<Boolean> PRIMARY_SCOPE = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * 현재 요청의 읽기를 주 DB 로 고정해야 하는지
+     */
+    public static boolean isPinned() {
+        if (PRIMARY_SCOPE.get() != null) {
+            return true;
+        }
+        State state = CURRENT.get();
+        return state != null && state.pinned;
+    }
+
+    /**
+     * action 안의 읽기 전용 트랜잭션 SQL 을 주 DB 로 보냅니다.
+     * 커넥션은 첫 SQL 실행 시점에 고르므로, 읽기 전용 트랜잭션 안에서 첫 SQL 전에 호출해도 됩니다.
+     *
+     * @param action 주 DB 에서 실행할 작업
+     * @return action 의 결과
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        boolean outer = PRIMARY_SCOPE.get() == null;
+        PRIMARY_SCOPE.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (outer) {
+                PRIMARY_SCOPE.remove();
+            }
+        }
+    }
+
+    static void begin(boolean pinned) {
+        State state = new State();
+        state.pinned = pinned;
+        CURRENT.set(state);
+    }
+
+    /**
+     * 현재 요청에서 쓰기 트랜잭션이 주 DB 를 사용했음을 기록
+     */
+    static void markWrite() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.wrote = true;
+        }
+    }
+
+    /**
+     * @return 요청 동안 쓰기가 있었는지
+     */
+    static boolean end() {
+        State state = CURRENT.get();
+        CURRENT.remove();
+        return state != null && state.wrote;
+    }
+
+    private static class State {
+        boolean pinned;
+        boolean wrote;
+    }
+}
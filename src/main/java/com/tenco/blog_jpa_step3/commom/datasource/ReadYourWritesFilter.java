@@ -0,0 +1,47 @@
+package com.tenco.blog_jpa_step3.commom.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 쓰기 트랜잭션이 있었던 요청 이후 windowMillis 동안 같은 세션의 읽기를 주 DB 로 보냅니다.
+ * (세션 = 로그인한 사용자 단위이므로 다른 사용자의 읽기는 계속 복제 DB 를 사용)
+ */
+class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final long windowMillis;
+
+    ReadYourWritesFilter(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        HttpSession session = request.getSession(false);
+        Object until = session == null ? null : session.getAttribute(ReadYourWrites.SESSION_KEY);
+        ReadYourWrites.begin(until instanceof Long time && time > now);
+
+        boolean wrote = false;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            wrote = ReadYourWrites.end();
+        }
+
+        // 로그인처럼 요청 중에 세션이 만들어지는 경우도 있으므로 요청이 끝난 뒤 다시 조회
+        if (wrote) {
+            session = request.getSession(false);
+            if (session != null) {
+                session.setAttribute(ReadYourWrites.SESSION_KEY, System.currentTimeMillis() + windowMillis);
+            }
+        }
+    }
+}
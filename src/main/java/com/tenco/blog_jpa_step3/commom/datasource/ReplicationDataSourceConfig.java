@@ -0,0 +1,148 @@
+package com.tenco.blog_jpa_step3.commom.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주(primary) / 복제(replica) 데이터소스 구성
+ * blog.datasource.replica.url 이 설정된 경우에만 활성화되며, 없으면 spring.datasource 하나만 사용합니다.
+ *
+ * - 주 DB   : spring.datasource.*
+ * - 복제 DB : blog.datasource.replica.*
+ * - 애플리케이션이 사용하는 DataSource 는 LazyConnectionDataSourceProxy(ReplicationRoutingDataSource) 입니다.
+ *
+ * 라우팅은 트랜잭션마다 커넥션을 새로 고른다는 전제로 동작하므로 OSIV(spring.jpa.open-in-view)를 반드시 꺼야 합니다.
+ * OSIV 가 켜져 있으면 요청 전체가 EntityManager 하나(=첫 커넥션)를 공유하여,
+ * 첫 SQL 이 복제 DB 로 가면 같은 요청의 쓰기도 복제 DB 로, 주 DB 로 가면 이후 읽기도 모두 주 DB 로 가게 됩니다.
+ * 그래서 이 구성이 활성화된 상태에서 OSIV 가 켜져 있으면 시작 시 오류로 알립니다.
+ *
+ * 로컬에서는 H2 두 개로 시험할 수 있습니다. (application-replica.yml 참고)
+ * blog.datasource.replica.h2-link-primary=true 이면 시작 시 복제 H2 에 주 H2 의 테이블을 READONLY 링크 테이블로 만들어
+ * 실제 복제처럼 같은 데이터를 읽되, 잘못 라우팅된 쓰기는 오류가 나도록 합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "blog.datasource.replica", name = "url")
+public class ReplicationDataSourceConfig {
+
+    public ReplicationDataSourceConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException(
+                    "blog.datasource.replica.url 을 사용할 때는 spring.jpa.open-in-view=false 로 설정해야 합니다. (요청 전체가 첫 커넥션의 라우팅을 따르게 됨)");
+        }
+    }
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${blog.datasource.replica.url}") String url,
+                                              @Value("${blog.datasource.replica.username:sa}") String username,
+                                              @Value("${blog.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${blog.datasource.replica.read-your-writes-ms:5000}") long windowMillis) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(windowMillis));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    /**
+     * 로컬 시험용 - 복제 H2 에 주 H2 의 모든 테이블을 READONLY 링크 테이블로 만듭니다.
+     * 주 DB 의 스키마(ddl-auto)와 초기 데이터(data.sql)가 만들어진 뒤에 실행되어야 하므로 ApplicationReadyEvent 에서 가장 먼저 실행합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "blog.datasource.replica", name = "h2-link-primary", havingValue = "true")
+    public H2ReplicaLinker h2ReplicaLinker(DataSourceProperties primaryProperties,
+                                           @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                           @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+        return new H2ReplicaLinker(primaryProperties, primaryDataSource, replicaDataSource);
+    }
+
+    static class H2ReplicaLinker {
+
+        private final DataSourceProperties primaryProperties;
+        private final DataSource primaryDataSource;
+        private final HikariDataSource replicaDataSource;
+
+        H2ReplicaLinker(DataSourceProperties primaryProperties, DataSource primaryDataSource, HikariDataSource replicaDataSource) {
+            this.primaryProperties = primaryProperties;
+            this.primaryDataSource = primaryDataSource;
+            this.replicaDataSource = replicaDataSource;
+        }
+
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        @EventListener(ApplicationReadyEvent.class)
+        public void link() {
+            List<String> tables = new JdbcTemplate(primaryDataSource).queryForList(
+                    "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'",
+                    String.class);
+            // 복제 풀은 readOnly 커넥션이므로 DDL 은 별도 커넥션으로 실행
+            JdbcTemplate replica = new JdbcTemplate(DataSourceBuilder.create()
+                    .type(SimpleDriverDataSource.class)
+                    .url(replicaDataSource.getJdbcUrl())
+                    .username(replicaDataSource.getUsername())
+                    .password(replicaDataSource.getPassword())
+                    .build());
+            for (String table : tables) {
+                replica.execute("DROP TABLE IF EXISTS \"" + table + "\"");
+                replica.execute("CREATE LINKED TABLE \"" + table + "\"('org.h2.Driver', '" + primaryProperties.determineUrl() + "', '"
+                        + primaryProperties.determineUsername() + "', '" + nullToEmpty(primaryProperties.determinePassword()) + "', '"
+                        + table + "') READONLY");
+            }
+            log.info("복제 H2 에 주 DB 테이블 {}개 링크 완료: {}", tables.size(), tables);
+        }
+
+        private static String nullToEmpty(String value) {
+            return value == null ? "" : value;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.tenco.blog_jpa_step3.commom.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 속성에 따라 주(primary) / 복제(replica) 데이터소스를 고르는 라우팅 데이터소스
+ *
+ * - @Transactional(readOnly = true) 이고 읽기-자기-쓰기 구간이 아니면 복제 DB
+ * - 그 밖의 경우(쓰기 트랜잭션, 트랜잭션 없음)는 모두 주 DB
+ *
+ * 트랜잭션 시작 시점에는 아직 readOnly 여부가 동기화 매니저에 등록되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 SQL 실행 시점에 커넥션을 고르게 해야 합니다.
+ */
+class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return ReadYourWrites.isPinned() ? DataSourceType.PRIMARY : DataSourceType.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            ReadYourWrites.markWrite();
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tenco.blog_jpa_step3.commom.markdown;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 본문 Markdown -> HTML 변환기
+ *
+ * - 본문에 직접 쓴 HTML 태그는 실행되지 않도록 이스케이프하고(escapeHtml),
+ *   링크/이미지 주소는 http, https, mailto 등 안전한 스킴만 남깁니다(sanitizeUrls).
+ *   따라서 결과 HTML 은 템플릿에서 이스케이프 없이({{{ }}}) 출력해도 됩니다.
+ * - 변환 결과는 본문의 SHA-256 을 키로 캐시합니다. 같은 본문이면 게시글/사용자와 상관없이 한 번만 변환하고,
+ *   본문이 바뀌면 키가 달라지므로 따로 무효화할 필요가 없습니다.
+ *   (댓글 등록 등으로 게시글 상세 스냅샷만 다시 만들 때도 변환 비용이 들지 않음)
+ * - 크기 제한은 항목 수가 아니라 HTML 문자 수 합계(blog.cache.markdown.max-bytes) 기준입니다.
+ *
+ * Parser / HtmlRenderer 는 불변이라 여러 스레드에서 함께 사용합니다.
+ */
+@Component
+public class MarkdownRenderer {
+
+    private final Parser parser = Parser.builder().build();
+    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .softbreak("<br />\n") // 게시글 입력창의 줄바꿈을 그대로 보여준다.
+            .build();
+
+    private final Cache<String, String> cache;
+    private final LongAdder renderCount = new LongAdder();
+
+    public MarkdownRenderer(@Value("${blog.cache.markdown.max-bytes:16777216}") long maxBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                // 문자열 본문(2바이트 문자 기준) + 키 + 객체 대략치
+                .weigher((String key, String html) -> html.length() * 2 + 192)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Markdown 을 HTML 로 변환합니다. (캐시 사용 안 함)
+     *
+     * @param markdown 본문
+     * @return 안전하게 처리된 HTML
+     */
+    public String render(String markdown) {
+        if (markdown == null || markdown.isEmpty()) {
+            return "";
+        }
+        renderCount.increment();
+        return htmlRenderer.render(parser.parse(markdown));
+    }
+
+    /**
+     * 본문 해시로 캐시를 찾고, 없을 때만 변환합니다.
+     *
+     * @param markdown 본문
+     * @return 안전하게 처리된 HTML
+     */
+    public String renderCached(String markdown) {
+        if (markdown == null || markdown.isEmpty()) {
+            return "";
+        }
+        return cache.get(hash(markdown), key -> render(markdown));
+    }
+
+    /**
+     * 캐시 통계 (관리자 화면 노출용)
+     */
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("bytes", cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L));
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("renderCount", renderCount.sum());
+        return result;
+    }
+
+    /**
+     * 캐시를 비웁니다. (테스트 / 벤치마크용)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String hash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(markdown.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.tenco.blog_jpa_step3.commom.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 로그-선형(HDR 방식) 지연 시간 히스토그램 (단위: 마이크로초)
+ * 값의 크기(2의 거듭제곱 구간)마다 16개의 하위 구간으로 나누어 약 6% 이내의 오차로 분위수를 계산합니다.
+ * 기록(record)은 배열 원소 하나에 대한 원자적 증가뿐이라 객체를 만들지 않고 잠금도 없습니다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; // 32: 0~31 은 정확한 값
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1; // 16
+    private static final long MAX_VALUE = 3_600_000_000L; // 1시간 (이보다 큰 값은 1시간으로 기록)
+    private static final int BUCKET_COUNT = indexOf(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * 지연 시간을 기록합니다.
+     *
+     * @param nanos 지연 시간 (나노초)
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.min(Math.max(nanos / 1_000, 0), MAX_VALUE);
+        counts.incrementAndGet(indexOf(micros));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        long max;
+        while (micros > (max = maxMicros.get()) && !maxMicros.compareAndSet(max, micros)) {
+            // 다른 스레드가 먼저 갱신했다면 다시 비교
+        }
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * 분위수 값 (마이크로초, 해당 구간의 상한값)
+     *
+     * @param percentile 0 ~ 100
+     */
+    public long percentile(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(upperBound(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    /**
+     * 요약 통계 (밀리초 단위)
+     */
+    public Map<String, Object> summary() {
+        long count = totalCount.get();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", count);
+        result.put("meanMs", count == 0 ? 0.0 : totalMicros.get() / 1000.0 / count);
+        result.put("p50Ms", percentile(50) / 1000.0);
+        result.put("p99Ms", percentile(99) / 1000.0);
+        result.put("p999Ms", percentile(99.9) / 1000.0);
+        result.put("maxMs", maxMicros.get() / 1000.0);
+        return result;
+    }
+
+    // 값 -> 구간 번호
+    // 0~31 은 값 그대로, 그 이상은 (2의 거듭제곱 구간 번호 * 16) + 상위 5비트 값(16~31)
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS + 1;
+        int sub = (int) (value >>> shift); // 16 ~ 31
+        return shift * SUB_BUCKET_HALF + sub;
+    }
+
+    // 구간 번호 -> 그 구간에 속하는 가장 큰 값
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long sub = index % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,47 @@
+package com.tenco.blog_jpa_step3.commom.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 라우트(핸들러 메서드)별 지연 시간 통계 저장소
+ * 키는 리플렉션 Method(또는 핸들러 클래스) 객체를 그대로 사용하므로
+ * 요청마다 라우트 이름 문자열을 만들지 않습니다. (이름은 처음 한번만 생성)
+ */
+@Component
+public class RequestMetrics {
+
+    private final Map<Object, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    /**
+     * 핸들러에 해당하는 통계 객체를 찾습니다. 처음 호출된 핸들러라면 새로 만듭니다.
+     */
+    RouteMetrics route(Object handler) {
+        Object key = (handler instanceof HandlerMethod handlerMethod) ? handlerMethod.getMethod() : handler.getClass();
+        RouteMetrics metrics = routes.get(key);
+        if (metrics == null) {
+            metrics = routes.computeIfAbsent(key, k -> new RouteMetrics(routeName(handler)));
+        }
+        return metrics;
+    }
+
+    /**
+     * 모든 라우트의 요약 통계 (라우트 이름 순)
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> result = new TreeMap<>();
+        routes.values().forEach(metrics -> result.put(metrics.getRoute(), metrics.summary()));
+        return result;
+    }
+
+    private static String routeName(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+        return handler.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,45 @@
+package com.tenco.blog_jpa_step3.commom.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 핸들러 메서드(라우트) 하나의 지연 시간 통계
+ * 컨트롤러 처리 시간과 뷰 렌더링 시간을 따로 기록합니다.
+ */
+public class RouteMetrics {
+
+    private final String route;
+    private final long startedAtNanos = System.nanoTime();
+    private final LatencyHistogram handler = new LatencyHistogram();
+    private final LatencyHistogram view = new LatencyHistogram();
+
+    RouteMetrics(String route) {
+        this.route = route;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    void recordHandler(long nanos) {
+        handler.recordNanos(nanos);
+    }
+
+    void recordView(long nanos) {
+        view.recordNanos(nanos);
+    }
+
+    /**
+     * 요약 통계 - 처리량(초당 요청 수)은 이 라우트가 처음 호출된 이후의 평균
+     */
+    public Map<String, Object> summary() {
+        double seconds = Math.max((System.nanoTime() - startedAtNanos) / 1_000_000_000.0, 1.0);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", handler.getCount());
+        result.put("throughputPerSec", handler.getCount() / seconds);
+        result.put("handler", handler.summary());
+        result.put("view", view.summary());
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package com.tenco.blog_jpa_step3.commom.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 요청 처리 시간을 라우트별 히스토그램에 기록하는 인터셉터
+ * - preHandle ~ postHandle        : 컨트롤러 처리 시간
+ * - postHandle ~ afterCompletion  : 뷰 렌더링 시간
+ * 예외로 postHandle 이 호출되지 않으면 전체 시간을 컨트롤러 처리 시간으로 기록합니다.
+ *
+ * 시작 시각은 요청 속성(박싱된 Long) 대신 스레드별로 재사용하는 long[] 에 저장하여
+ * 요청 경로에서 객체를 만들지 않습니다.
+ */
+@RequiredArgsConstructor
+public class TimingInterceptor implements HandlerInterceptor {
+
+    // [0] = preHandle 시각, [1] = postHandle 시각 (0 이면 아직 호출되지 않음)
+    private static final ThreadLocal<long[]> TIMES = ThreadLocal.withInitial(() -> new long[2]);
+
+    private final RequestMetrics requestMetrics;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long[] times = TIMES.get();
+        times[0] = System.nanoTime();
+        times[1] = 0;
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        long[] times = TIMES.get();
+        times[1] = System.nanoTime();
+        requestMetrics.route(handler).recordHandler(times[1] - times[0]);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long[] times = TIMES.get();
+        long now = System.nanoTime();
+        RouteMetrics metrics = requestMetrics.route(handler);
+        if (times[1] != 0) {
+            metrics.recordView(now - times[1]);
+        } else {
+            metrics.recordHandler(now - times[0]);
+        }
+        times[1] = 0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.tenco.blog_jpa_step3.commom.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HTTP 요청 하나 동안 실행된 SQL 통계
+ * 요청 스레드의 ThreadLocal 에 보관되며, SqlStatsFilter 가 요청 시작 시 만들고 끝날 때 지웁니다.
+ * 한 요청은 한 스레드에서만 기록하므로 동기화하지 않습니다.
+ */
+public class SqlStats {
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long jdbcNanos;
+    private long executeStartNanos;
+    // 파라미터가 ? 로 남아 있는 SQL 문장 -> 실행 횟수 (같은 모양의 쿼리 반복 = N+1 의심)
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private String maxRepeatSql;
+    private int maxRepeat;
+
+    public static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    static SqlStats begin() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql) {
+        statementCount++;
+        int count = shapes.merge(sql, 1, Integer::sum);
+        if (count > maxRepeat) {
+            maxRepeat = count;
+            maxRepeatSql = sql;
+        }
+    }
+
+    void executeStart() {
+        executeStartNanos = System.nanoTime();
+    }
+
+    void executeEnd() {
+        if (executeStartNanos != 0) {
+            jdbcNanos += System.nanoTime() - executeStartNanos;
+            executeStartNanos = 0;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public double getJdbcMillis() {
+        return jdbcNanos / 1_000_000.0;
+    }
+
+    public int getMaxRepeat() {
+        return maxRepeat;
+    }
+
+    public String getMaxRepeatSql() {
+        return maxRepeatSql;
+    }
+}
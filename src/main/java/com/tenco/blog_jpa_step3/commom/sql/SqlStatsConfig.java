@@ -0,0 +1,22 @@
+package com.tenco.blog_jpa_step3.commom.sql;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청별 SQL 통계를 위해 Hibernate 에 StatementInspector 와 세션 이벤트 리스너를 등록합니다.
+ * 프로필과 상관없이 항상 적용되도록 yml 이 아닌 코드로 설정합니다.
+ */
+@Configuration
+public class SqlStatsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatsInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatsSessionListener.class.getName());
+        };
+    }
+}
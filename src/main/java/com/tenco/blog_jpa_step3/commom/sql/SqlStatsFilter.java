@@ -0,0 +1,137 @@
+package com.tenco.blog_jpa_step3.commom.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * 요청마다 실행된 SQL 수, JDBC 실행 시간, 같은 모양 SQL 의 최대 반복 횟수를 기록하여
+ * 응답 헤더(X-SQL-*)와 로그 한 줄로 남깁니다.
+ * 같은 SQL 이 설정값(blog.sql-stats.n-plus-one-threshold)보다 많이 반복되면 N+1 의심으로 WARN 로그를 남깁니다.
+ *
+ * 응답 헤더는 본문을 쓰기 시작하기 직전(= 컨트롤러 처리 완료 시점)의 값이고,
+ * 뷰 렌더링 중 실행된 SQL 까지 포함한 최종 값은 로그에 남습니다.
+ */
+@Slf4j
+@Component
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private final int nPlusOneThreshold;
+
+    public SqlStatsFilter(@Value("${blog.sql-stats.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStats stats = SqlStats.begin();
+        StatsHeaderResponse wrapped = new StatsHeaderResponse(response, stats);
+        try {
+            chain.doFilter(request, wrapped);
+        } finally {
+            wrapped.writeHeaders();
+            SqlStats.end();
+            log(request, stats);
+        }
+    }
+
+    // 요청마다 로그를 남기면 측정 대상 요청에 로그 비용이 더해지므로 평소에는 DEBUG, N+1 의심일 때만 WARN
+    private void log(HttpServletRequest request, SqlStats stats) {
+        if (stats.getStatementCount() == 0) {
+            return;
+        }
+        boolean nPlusOne = stats.getMaxRepeat() > nPlusOneThreshold;
+        if (!nPlusOne && !log.isDebugEnabled()) {
+            return; // 문자열도 만들지 않는다.
+        }
+        String line = String.format(Locale.ROOT,
+                "sql-stats method=%s uri=%s statements=%d jdbcTimeMs=%.2f maxRepeat=%d nPlusOne=%s",
+                request.getMethod(), request.getRequestURI(), stats.getStatementCount(),
+                stats.getJdbcMillis(), stats.getMaxRepeat(), nPlusOne);
+        if (nPlusOne) {
+            log.warn("{} sql=\"{}\"", line, abbreviate(stats.getMaxRepeatSql()));
+        } else {
+            log.debug(line);
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        String oneLine = sql.replaceAll("\\s+", " ").trim();
+        return oneLine.length() > 200 ? oneLine.substring(0, 200) + "..." : oneLine;
+    }
+
+    /**
+     * 응답이 커밋되기 전에 X-SQL-* 헤더를 한번만 추가하는 래퍼
+     */
+    private class StatsHeaderResponse extends HttpServletResponseWrapper {
+        private final SqlStats stats;
+        private boolean written;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            response.setHeader("X-SQL-Count", String.valueOf(stats.getStatementCount()));
+            response.setHeader("X-SQL-Time-Ms", String.format(Locale.ROOT, "%.2f", stats.getJdbcMillis()));
+            response.setHeader("X-SQL-Max-Repeat", String.valueOf(stats.getMaxRepeat()));
+            if (stats.getMaxRepeat() > nPlusOneThreshold) {
+                response.setHeader("X-SQL-N-Plus-One", "true");
+            }
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.tenco.blog_jpa_step3.commom.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 SQL 을 준비(prepare)하기 직전에 호출되어 현재 요청의 SQL 수와 모양을 기록합니다.
+ * SQL 은 바꾸지 않고 그대로 반환합니다.
+ */
+public class SqlStatsInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,36 @@
+package com.tenco.blog_jpa_step3.commom.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션 이벤트로 JDBC 실행 시간을 측정하여 현재 요청의 SqlStats 에 더합니다.
+ * hibernate.session.events.auto 설정으로 세션마다 하나씩 생성됩니다.
+ */
+public class SqlStatsSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) {
+            stats.executeStart();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) {
+            stats.executeEnd();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
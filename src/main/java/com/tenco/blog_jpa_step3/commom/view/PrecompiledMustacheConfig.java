@@ -0,0 +1,35 @@
+package com.tenco.blog_jpa_step3.commom.view;
+
+import com.samskivert.mustache.Mustache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.mustache.MustacheProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternUtils;
+
+import java.io.IOException;
+
+/**
+ * 운영용 Mustache 렌더링 설정 (blog.view.precompiled=true 일 때만 활성화, application-prod.yml)
+ * MustacheViewResolver 타입의 빈을 등록하므로 스프링 부트 기본 뷰 리졸버는 등록되지 않습니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "blog.view", name = "precompiled", havingValue = "true")
+public class PrecompiledMustacheConfig {
+
+    @Bean
+    public PrecompiledMustacheViewResolver mustacheViewResolver(Mustache.Compiler compiler,
+                                                                MustacheProperties properties,
+                                                                ResourceLoader resourceLoader) throws IOException {
+        PrecompiledMustacheViewResolver resolver = new PrecompiledMustacheViewResolver(compiler,
+                ResourcePatternUtils.getResourcePatternResolver(resourceLoader),
+                properties.getPrefix(), properties.getSuffix(), properties.getCharset());
+        // 스프링 부트 기본 MustacheViewResolver 와 같은 순서
+        resolver.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return resolver;
+    }
+}
@@ -0,0 +1,231 @@
+package com.tenco.blog_jpa_step3.commom.view;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.view.AbstractView;
+import org.springframework.web.servlet.view.mustache.MustacheViewResolver;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 운영용 Mustache 뷰 리졸버 (blog.view.precompiled=true)
+ *
+ * 스프링 부트 기본 MustacheView 는 렌더링할 때마다 템플릿 파일을 읽어 다시 컴파일하고(부분 템플릿 포함),
+ * expose-session-attributes / expose-request-attributes 가 켜져 있으면 모든 세션/요청 속성을 모델로 복사합니다.
+ * 이 리졸버는
+ * - 시작할 때 templates 아래의 모든 템플릿을 한번 컴파일하고, 빈 값으로 한번씩 렌더링하여 부분 템플릿까지 미리 로딩합니다.
+ * - 템플릿(부분 템플릿 포함)에 나오는 최상위 이름만 모델 -> 요청 속성 -> 세션 속성 순서로 찾아서 넘깁니다.
+ * - 결과를 문자열로 만들지 않고 응답 Writer(응답 버퍼)에 바로 씁니다.
+ *
+ * "redirect:" / "forward:" 처리는 상위 클래스(UrlBasedViewResolver) 그대로 사용합니다.
+ */
+@Slf4j
+public class PrecompiledMustacheViewResolver extends MustacheViewResolver {
+
+    // {{name}}, {{{name}}}, {{&name}}, {{#name}}, {{^name}}, {{>partial}} (주석 {{! }} / 닫는 태그 {{/ }} 제외)
+    private static final Pattern TAG = Pattern.compile("\\{\\{\\{?\\s*([#^&>]?)\\s*([\\w./\\-]+)\\s*}?}}");
+    // JMustache 특수 변수 - 모델에서 찾을 필요가 없음
+    private static final Set<String> SPECIAL_NAMES = Set.of("this", "-first", "-last", "-index");
+
+    private final Map<String, CompiledTemplate> templates;
+
+    /**
+     * @param compiler 스프링 부트가 구성한 Mustache 컴파일러 (부분 템플릿 로더 포함)
+     * @param resourceResolver 템플릿 검색용
+     * @param prefix 템플릿 위치 (예: classpath:/templates/)
+     * @param suffix 템플릿 확장자 (예: .mustache)
+     * @param charset 템플릿 / 응답 문자셋
+     */
+    public PrecompiledMustacheViewResolver(Mustache.Compiler compiler, ResourcePatternResolver resourceResolver,
+                                           String prefix, String suffix, Charset charset) throws IOException {
+        super(compiler);
+        setPrefix(prefix);
+        setSuffix(suffix);
+        setCharset(charset.name());
+        setContentType("text/html;charset=" + charset.name());
+        this.templates = Collections.unmodifiableMap(precompile(compiler, resourceResolver, prefix, suffix, charset));
+    }
+
+    /**
+     * 미리 컴파일된 템플릿 (벤치마크 / 테스트용)
+     *
+     * @param viewName 뷰 이름 (예: board/detail)
+     * @return 컴파일된 템플릿, 없으면 null
+     */
+    public Template getTemplate(String viewName) {
+        CompiledTemplate compiled = templates.get(viewName);
+        return compiled == null ? null : compiled.template;
+    }
+
+    /**
+     * 템플릿이 모델에서 찾는 최상위 이름 (부분 템플릿 포함)
+     *
+     * @param viewName 뷰 이름
+     * @return 이름 목록, 템플릿이 없으면 빈 목록
+     */
+    public Set<String> getModelKeys(String viewName) {
+        CompiledTemplate compiled = templates.get(viewName);
+        return compiled == null ? Set.of() : compiled.keys;
+    }
+
+    @Override
+    protected View loadView(String viewName, Locale locale) {
+        CompiledTemplate compiled = templates.get(viewName);
+        if (compiled == null) {
+            // 시작 후에 추가된 템플릿은 지원하지 않음 (운영 모드)
+            log.warn("미리 컴파일된 템플릿이 없습니다: {}", viewName);
+            return null;
+        }
+        PrecompiledMustacheView view = new PrecompiledMustacheView(compiled);
+        view.setContentType(getContentType());
+        return view;
+    }
+
+    private static Map<String, CompiledTemplate> precompile(Mustache.Compiler compiler, ResourcePatternResolver resourceResolver,
+                                                            String prefix, String suffix, Charset charset) throws IOException {
+        String root = resourceResolver.getResource(prefix).getURL().toString();
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (Resource resource : resourceResolver.getResources(prefix + "**/*" + suffix)) {
+            String url = resource.getURL().toString();
+            if (!url.startsWith(root)) {
+                continue;
+            }
+            String name = url.substring(root.length(), url.length() - suffix.length());
+            try (InputStreamReader reader = new InputStreamReader(resource.getInputStream(), charset)) {
+                sources.put(name, FileCopyUtils.copyToString(reader));
+            }
+        }
+
+        Map<String, CompiledTemplate> result = new HashMap<>();
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            Template template = compiler.compile(entry.getValue());
+            Set<String> keys = Collections.unmodifiableSet(modelKeys(entry.getKey(), sources, new LinkedHashSet<>(), new LinkedHashSet<>()));
+            warmUp(entry.getKey(), template);
+            result.put(entry.getKey(), new CompiledTemplate(template, keys));
+        }
+        log.info("Mustache 템플릿 {}개 미리 컴파일 완료: {}", result.size(), result.keySet());
+        return result;
+    }
+
+    // 템플릿과 그 부분 템플릿에 나오는 최상위 이름 (a.b.c -> a)
+    private static Set<String> modelKeys(String name, Map<String, String> sources, Set<String> keys, Set<String> visited) {
+        String source = sources.get(name);
+        if (source == null || !visited.add(name)) {
+            return keys;
+        }
+        Matcher matcher = TAG.matcher(source);
+        while (matcher.find()) {
+            String tag = matcher.group(2);
+            if (">".equals(matcher.group(1))) {
+                modelKeys(tag, sources, keys, visited);
+                continue;
+            }
+            int dot = tag.indexOf('.');
+            String key = dot < 0 ? tag : tag.substring(0, dot);
+            if (!key.isEmpty() && !SPECIAL_NAMES.contains(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 모든 이름이 값이 있는 것처럼 보이는 모델로 한번 렌더링합니다.
+     * 섹션 안쪽까지 실행되므로 부분 템플릿이 모두 로딩(컴파일)되어, 첫 요청에서 컴파일하지 않습니다.
+     */
+    private static void warmUp(String name, Template template) {
+        try {
+            template.execute(WarmUpContext.INSTANCE, Writer.nullWriter());
+        } catch (RuntimeException e) {
+            log.debug("템플릿 예열 중 일부 실패 (첫 요청에서 마저 로딩됨): {} - {}", name, e.getMessage());
+        }
+    }
+
+    private static class CompiledTemplate {
+        private final Template template;
+        private final Set<String> keys;
+
+        CompiledTemplate(Template template, Set<String> keys) {
+            this.template = template;
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * 어떤 이름으로 찾아도 자기 자신을 돌려주는 예열용 모델
+     * (Map 은 목록이 아니라 하나의 컨텍스트로 취급되므로 섹션은 한번만 실행된다)
+     */
+    private static class WarmUpContext extends AbstractMap<String, Object> {
+        static final WarmUpContext INSTANCE = new WarmUpContext();
+
+        @Override
+        public Object get(Object key) {
+            return this;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return true;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Set.of();
+        }
+    }
+
+    /**
+     * 미리 컴파일된 템플릿으로 응답 Writer 에 바로 렌더링하는 뷰
+     */
+    static class PrecompiledMustacheView extends AbstractView {
+
+        private final CompiledTemplate compiled;
+
+        PrecompiledMustacheView(CompiledTemplate compiled) {
+            this.compiled = compiled;
+        }
+
+        @Override
+        protected void renderMergedOutputModel(Map<String, Object> model, HttpServletRequest request,
+                                               HttpServletResponse response) throws IOException {
+            // 템플릿이 사용하는 이름만 모델 -> 요청 속성 -> 세션 속성 순서로 찾는다. (세션은 새로 만들지 않음)
+            HttpSession session = request.getSession(false);
+            Map<String, Object> context = new HashMap<>(compiled.keys.size() * 2);
+            for (String key : compiled.keys) {
+                Object value = model.get(key);
+                if (value == null) {
+                    value = request.getAttribute(key);
+                }
+                if (value == null && session != null) {
+                    value = session.getAttribute(key);
+                }
+                if (value != null) {
+                    context.put(key, value);
+                }
+            }
+            response.setContentType(getContentType());
+            compiled.template.execute(context, response.getWriter());
+        }
+    }
+}
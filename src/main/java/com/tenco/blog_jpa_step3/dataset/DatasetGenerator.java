@@ -0,0 +1,241 @@
+package com.tenco.blog_jpa_step3.dataset;
+
+import com.tenco.blog_jpa_step3.board.BoardContent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하/규모 테스트용 가상 데이터 생성기
+ *
+ * 게시글 boards 건을 기준으로
+ * - 사용자 : boards / 100 명 (최소 10명), 글/댓글 작성자는 Zipf 분포 (소수의 사용자가 대부분을 작성)
+ * - 댓글   : 게시글마다 Zipf 분포로 0 ~ maxRepliesPerBoard 개 (기본 설정에서 절반 정도는 댓글 0개, 평균 약 7개)
+ * - 본문   : 지수 분포 길이 (평균 contentMeanLength 자), BoardContent 와 같은 규칙으로 압축하여 board_content_tb 에 저장
+ * - 상태   : deletedRatio 비율의 댓글은 DELETED
+ *
+ * JPA 를 거치지 않고 JdbcTemplate 배치 INSERT 로 넣으며, ID 는 현재 최대 ID 다음부터 직접 지정한 뒤
+ * 끝나면 시퀀스를 그 뒤로 옮깁니다. 댓글 수 / 마지막 댓글 시간(비정규화 컬럼)도 생성하면서 바로 계산해 넣습니다.
+ * (시퀀스 조정 SQL 은 H2 문법입니다)
+ */
+@Slf4j
+@Component
+public class DatasetGenerator {
+
+    private static final String USER_SQL =
+            "INSERT INTO user_tb(id, username, password, email, role, created_at) VALUES (?, ?, '1234', ?, 'USER', ?)";
+    private static final String CONTENT_SQL =
+            "INSERT INTO board_content_tb(id, data, compressed, original_length) VALUES (?, ?, ?, ?)";
+    private static final String BOARD_SQL =
+            "INSERT INTO board_tb(id, title, content_id, user_id, created_at, views, reply_count, last_reply_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String REPLY_SQL =
+            "INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 한다.
+    private static final int SEQUENCE_ALLOCATION = 50;
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${blog.dataset.batch-size:5000}")
+    private int batchSize;
+    @Value("${blog.dataset.max-replies-per-board:1000}")
+    private int maxRepliesPerBoard;
+    @Value("${blog.dataset.reply-zipf-exponent:1.8}")
+    private double replyZipfExponent;
+    @Value("${blog.dataset.author-zipf-exponent:1.1}")
+    private double authorZipfExponent;
+    @Value("${blog.dataset.content-mean-length:300}")
+    private int contentMeanLength;
+    @Value("${blog.dataset.deleted-ratio:0.1}")
+    private double deletedRatio;
+    @Value("${blog.dataset.days:365}")
+    private int days;
+    @Value("${blog.dataset.seed:42}")
+    private long seed;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 가상 데이터를 생성합니다. 기존 데이터는 그대로 두고 그 뒤에 추가합니다.
+     *
+     * @param boards 생성할 게시글 수 (규모 기준값)
+     */
+    public void generate(int boards) {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+        TextPool text = new TextPool(random);
+
+        int userCount = Math.max(10, boards / 100);
+        int userBase = maxId("user_tb");
+        int boardBase = maxId("board_tb");
+        int contentBase = maxId("board_content_tb");
+        int replyBase = maxId("reply_tb");
+
+        long now = System.currentTimeMillis();
+        long from = now - days * DAY_MILLIS;
+
+        // 1. 사용자
+        List<Object[]> userRows = new ArrayList<>(batchSize);
+        for (int i = 1; i <= userCount; i++) {
+            int id = userBase + i;
+            userRows.add(new Object[]{id, "user" + id, "user" + id + "@nate.com", new Timestamp(from)});
+            if (userRows.size() == batchSize) {
+                flush(USER_SQL, userRows);
+            }
+        }
+        flush(USER_SQL, userRows);
+
+        // 2. 본문 + 게시글 + 댓글 (FK 때문에 항상 본문 -> 게시글 -> 댓글 순서로 내보낸다)
+        ZipfSampler replySampler = new ZipfSampler(maxRepliesPerBoard + 1, replyZipfExponent);
+        ZipfSampler authorSampler = new ZipfSampler(userCount, authorZipfExponent);
+        // Zipf 순위 1번이 항상 첫 번째 사용자가 되지 않도록 순위 -> 사용자 ID 를 섞는다.
+        int[] authorByRank = shuffledIds(userBase, userCount, random);
+
+        List<Object[]> contentRows = new ArrayList<>(batchSize);
+        List<Object[]> boardRows = new ArrayList<>(batchSize);
+        List<Object[]> replyRows = new ArrayList<>(batchSize);
+        int replyId = replyBase;
+        long activeReplies = 0;
+        long deletedReplies = 0;
+        // 게시글 ID 순서 = 작성 시간 순서가 되도록 시간을 일정하게 증가시킨다.
+        double step = (double) (now - from) / Math.max(1, boards);
+
+        for (int i = 1; i <= boards; i++) {
+            int boardId = boardBase + i;
+            long createdAt = from + (long) (step * i);
+
+            int replyCount = replySampler.sample(random) - 1;
+            int activeCount = 0;
+            long lastReplyAt = 0;
+            long replyTime = createdAt;
+            for (int r = 0; r < replyCount; r++) {
+                // 댓글은 게시글 작성 후 시간이 지날수록 드물게 달린다.
+                replyTime = Math.min(now, replyTime + (long) (-Math.log(1 - random.nextDouble()) * DAY_MILLIS / 4));
+                boolean deleted = random.nextDouble() < deletedRatio;
+                if (deleted) {
+                    deletedReplies++;
+                } else {
+                    activeCount++;
+                    lastReplyAt = replyTime;
+                }
+                replyRows.add(new Object[]{++replyId, text.next(random, 5, 80), boardId,
+                        authorByRank[authorSampler.sample(random) - 1], new Timestamp(replyTime),
+                        deleted ? "DELETED" : "ACTIVE"});
+            }
+            activeReplies += activeCount;
+
+            int contentId = contentBase + i;
+            String title = text.next(random, 5, 50);
+            BoardContent body = BoardContent.of(text.next(random, 10, contentLength(random)));
+            contentRows.add(new Object[]{contentId, body.getData(), body.isCompressed(), body.getOriginalLength()});
+            boardRows.add(new Object[]{boardId,
+                    title,
+                    contentId,
+                    authorByRank[authorSampler.sample(random) - 1],
+                    new Timestamp(createdAt),
+                    (long) random.nextInt(1000) * (activeCount + 1), // 댓글이 많은 글일수록 조회수도 많게
+                    activeCount,
+                    lastReplyAt == 0 ? null : new Timestamp(lastReplyAt)});
+
+            if (boardRows.size() >= batchSize || replyRows.size() >= batchSize) {
+                flush(CONTENT_SQL, contentRows);
+                flush(BOARD_SQL, boardRows);
+                flush(REPLY_SQL, replyRows);
+            }
+        }
+        flush(CONTENT_SQL, contentRows);
+        flush(BOARD_SQL, boardRows);
+        flush(REPLY_SQL, replyRows);
+
+        // 3. 직접 지정한 ID 뒤에서 시퀀스가 시작되도록 조정
+        restartSequence("user_seq", userBase + userCount);
+        restartSequence("board_seq", boardBase + boards);
+        restartSequence("board_content_seq", contentBase + boards);
+        restartSequence("reply_seq", replyId);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long totalRows = userCount + boards + activeReplies + deletedReplies;
+        log.info("가상 데이터 생성 완료 - 사용자 {}명, 게시글 {}건, 댓글 {}건 (삭제 {}건), {}ms, 초당 {}행",
+                userCount, boards, activeReplies + deletedReplies, deletedReplies, elapsedMs,
+                elapsedMs == 0 ? totalRows : totalRows * 1000 / elapsedMs);
+    }
+
+    // 평균 contentMeanLength 의 지수 분포 (짧은 글이 많고 긴 글은 드묾)
+    private int contentLength(SplittableRandom random) {
+        int length = (int) (-Math.log(1 - random.nextDouble()) * contentMeanLength);
+        return Math.max(10, Math.min(length, TextPool.SIZE));
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        rows.clear();
+    }
+
+    private int maxId(String table) {
+        Integer max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Integer.class);
+        return max == null ? 0 : max;
+    }
+
+    private void restartSequence(String name, int maxId) {
+        // pooled 방식은 시퀀스 값 v 를 받으면 (v-49 ~ v) 를 사용하므로 maxId + 50 부터 시작해야 충돌이 없다.
+        jdbcTemplate.execute("ALTER SEQUENCE " + name + " RESTART WITH " + (maxId + SEQUENCE_ALLOCATION));
+    }
+
+    private static int[] shuffledIds(int base, int count, SplittableRandom random) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = base + i + 1;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
+        return ids;
+    }
+
+    /**
+     * 미리 만들어 둔 무작위 한글 문자열에서 임의 위치를 잘라 쓰는 텍스트 공급기
+     * 행마다 문자를 새로 만들지 않아 대량 생성 시에도 빠릅니다.
+     */
+    private static class TextPool {
+
+        static final int SIZE = 64 * 1024;
+        private final String pool;
+
+        TextPool(SplittableRandom random) {
+            StringBuilder sb = new StringBuilder(SIZE * 2);
+            while (sb.length() < SIZE * 2) {
+                int word = 1 + random.nextInt(5);
+                for (int i = 0; i < word; i++) {
+                    sb.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+                }
+                sb.append(' ');
+            }
+            pool = sb.toString();
+        }
+
+        String next(SplittableRandom random, int minLength, int maxLength) {
+            int length = minLength + random.nextInt(Math.max(1, maxLength - minLength + 1));
+            int offset = random.nextInt(pool.length() - length);
+            return pool.substring(offset, offset + length).trim();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.tenco.blog_jpa_step3.dataset;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * seed 프로필로 실행하면 애플리케이션 시작 시 가상 데이터를 생성합니다.
+ * 검색 색인 등 ApplicationReadyEvent 에서 초기화되는 구성 요소는 생성이 끝난 뒤에 만들어집니다.
+ *
+ * 예) ./gradlew bootRun --args='--spring.profiles.active=dev,seed --blog.dataset.scale=1000000'
+ */
+@Profile("seed")
+@RequiredArgsConstructor
+@Component
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private final DatasetGenerator datasetGenerator;
+
+    @Value("${blog.dataset.scale:100000}")
+    private int scale;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        datasetGenerator.generate(scale);
+    }
+}
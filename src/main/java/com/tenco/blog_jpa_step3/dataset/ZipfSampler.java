@@ -0,0 +1,43 @@
+package com.tenco.blog_jpa_step3.dataset;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 표본 추출기 - 1..n 중 하나를 P(k) ∝ 1 / k^exponent 확률로 뽑습니다.
+ * 누적 분포(CDF)를 한번 계산해 두고 이진 탐색하므로 표본 하나에 O(log n) 입니다.
+ * (소수의 게시글에 댓글이 몰리고, 대부분은 댓글이 거의 없는 실제 분포를 흉내내기 위함)
+ */
+class ZipfSampler {
+
+    private final double[] cdf;
+
+    ZipfSampler(int n, double exponent) {
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cdf[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    /**
+     * @return 1 ~ n 사이의 값 (작은 값일수록 자주 나옴)
+     */
+    int sample(SplittableRandom random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low + 1;
+    }
+}
@@ -0,0 +1,141 @@
+package com.tenco.blog_jpa_step3.exports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenco.blog_jpa_step3.board.BoardJPARepository;
+import com.tenco.blog_jpa_step3.reply.ReplyJPARepository;
+import com.tenco.blog_jpa_step3.user.User;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 / 댓글 내보내기
+ *
+ * - 저장소의 streamAll() 로 JDBC fetch size 만큼씩 커서로 읽고, 읽는 즉시 출력 스트림에 씁니다.
+ * - CLEAR_INTERVAL 행마다 영속성 컨텍스트를 비워 읽은 엔티티가 쌓이지 않게 합니다.
+ *   따라서 행 수가 몇 백만이어도 메모리 사용량은 일정합니다.
+ * - 게시글 내보내기 컬럼은 가져오기(imports) 형식과 같아서 그대로 다시 가져올 수 있습니다.
+ */
+@Slf4j
+@Service
+public class BoardExportService {
+
+    // 영속성 컨텍스트를 비우는 주기 (fetch size 와 동일)
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private static final String[] BOARD_COLUMNS = {"id", "title", "content", "userId", "username", "createdAt"};
+    private static final String[] REPLY_COLUMNS = {"id", "boardId", "userId", "comment", "status", "createdAt"};
+
+    private final EntityManager em;
+    private final BoardJPARepository boardJPARepository;
+    private final ReplyJPARepository replyJPARepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BoardExportService(EntityManager em,
+                              BoardJPARepository boardJPARepository,
+                              ReplyJPARepository replyJPARepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.boardJPARepository = boardJPARepository;
+        this.replyJPARepository = replyJPARepository;
+        this.objectMapper = objectMapper;
+        // 스트림(커서)은 트랜잭션 안에서만 열려 있으므로 쓰기가 끝날 때까지 읽기 전용 트랜잭션을 유지한다.
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 전체 게시글을 출력 스트림에 씁니다.
+     *
+     * @param format ndjson 또는 csv
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 내보낸 행 수
+     */
+    public long exportBoards(String format, OutputStream out) throws IOException {
+        ExportRowWriter writer = ExportRowWriter.of(format, out, objectMapper, BOARD_COLUMNS);
+        long count = export(boardJPARepository::streamAll, board -> {
+            // 작성자가 없는 게시글(user_id NULL)도 빠뜨리지 않고 작성자 컬럼만 비워서 내보낸다.
+            User user = board.getUser();
+            writer.row(
+                    board.getId(),
+                    board.getTitle(),
+                    board.getContent(),
+                    user == null ? null : user.getId(),
+                    user == null ? null : user.getUsername(),
+                    board.getCreatedAt());
+        });
+        writer.flush();
+        log.info("게시글 내보내기 완료 - {}건", count);
+        return count;
+    }
+
+    /**
+     * 전체 댓글(삭제된 댓글 포함)을 출력 스트림에 씁니다.
+     *
+     * @param format ndjson 또는 csv
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 내보낸 행 수
+     */
+    public long exportReplies(String format, OutputStream out) throws IOException {
+        ExportRowWriter writer = ExportRowWriter.of(format, out, objectMapper, REPLY_COLUMNS);
+        long count = export(replyJPARepository::streamAll, reply -> writer.row(
+                reply.getId(),
+                // 지연 로딩 프록시에서 ID 만 꺼내므로 추가 쿼리가 나가지 않는다.
+                reply.getBoard().getId(),
+                reply.getUser().getId(),
+                reply.getComment(),
+                reply.getStatus(),
+                reply.getCreateAt()));
+        writer.flush();
+        log.info("댓글 내보내기 완료 - {}건", count);
+        return count;
+    }
+
+    private <T> long export(StreamSource<T> source, RowConsumer<T> consumer) throws IOException {
+        try {
+            Long count = readOnlyTransaction.execute(status -> {
+                long rows = 0;
+                // 전체를 한번 훑는 작업이므로 2차 캐시에 넣지 않음 (자주 쓰는 항목이 밀려나지 않도록)
+                em.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+                try (Stream<T> stream = source.open()) {
+                    Iterator<T> iterator = stream.iterator();
+                    while (iterator.hasNext()) {
+                        consumer.accept(iterator.next());
+                        if (++rows % CLEAR_INTERVAL == 0) {
+                            em.clear();
+                        }
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결 끊김 등 - 트랜잭션 밖에서 다시 IOException 으로 던진다.
+                    throw new UncheckedIOException(e);
+                }
+                return rows;
+            });
+            return count == null ? 0 : count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamSource<T> {
+        Stream<T> open();
+    }
+
+    @FunctionalInterface
+    private interface RowConsumer<T> {
+        void accept(T row) throws IOException;
+    }
+}
@@ -0,0 +1,129 @@
+package com.tenco.blog_jpa_step3.exports;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenco.blog_jpa_step3.commom.errors.Exception400;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 내보내기 한 행씩 출력 (NDJSON / CSV)
+ * 행을 모아두지 않고 바로 버퍼 Writer 로 흘려보내므로 메모리 사용량은 행 수와 무관합니다.
+ * 날짜는 toString() 값 (예: 2024-01-01 10:00:00.0) 으로 출력하여 가져오기(imports)에서 그대로 읽을 수 있습니다.
+ */
+abstract class ExportRowWriter {
+
+    protected final Writer writer;
+    protected final String[] columns;
+
+    private ExportRowWriter(OutputStream out, String[] columns) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        this.columns = columns;
+    }
+
+    static ExportRowWriter of(String format, OutputStream out, ObjectMapper objectMapper, String... columns) throws IOException {
+        if ("csv".equalsIgnoreCase(format)) {
+            return new Csv(out, columns);
+        }
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return new Ndjson(out, objectMapper, columns);
+        }
+        throw new Exception400("지원하지 않는 내보내기 형식입니다: " + format);
+    }
+
+    /**
+     * @param values columns 와 같은 순서의 값
+     */
+    abstract void row(Object... values) throws IOException;
+
+    /**
+     * 남은 버퍼를 내보냅니다. (스트림은 닫지 않음)
+     */
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나
+     */
+    private static class Ndjson extends ExportRowWriter {
+
+        private final JsonGenerator generator;
+
+        Ndjson(OutputStream out, ObjectMapper objectMapper, String[] columns) throws IOException {
+            super(out, columns);
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            // 출력 스트림은 컨트롤러(서블릿)가 관리한다.
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        void row(Object... values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    generator.writeNullField(columns[i]);
+                } else if (value instanceof Number number) {
+                    generator.writeNumberField(columns[i], number.longValue());
+                } else {
+                    generator.writeStringField(columns[i], value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void flush() throws IOException {
+            generator.flush();
+            super.flush();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV - 첫 줄은 헤더
+     */
+    private static class Csv extends ExportRowWriter {
+
+        Csv(OutputStream out, String[] columns) throws IOException {
+            super(out, columns);
+            writeLine(columns);
+        }
+
+        @Override
+        void row(Object... values) throws IOException {
+            writeLine(values);
+        }
+
+        private void writeLine(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writeField(values[i].toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        // 쉼표, 따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 따옴표는 "" 로 이스케이프
+        private void writeField(String value) throws IOException {
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
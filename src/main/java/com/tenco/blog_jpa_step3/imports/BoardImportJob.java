@@ -0,0 +1,55 @@
+package com.tenco.blog_jpa_step3.imports;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 가져오기 작업의 진행 상태
+ * 배치 트랜잭션과 같은 트랜잭션에서 committedRows 를 갱신하므로,
+ * 중간에 실패해도 "이미 커밋된 행 수" 가 정확히 남아 같은 jobId 로 이어서 가져올 수 있습니다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "board_import_job_tb")
+@NoArgsConstructor
+public class BoardImportJob {
+
+    public enum Status { RUNNING, DONE, FAILED }
+
+    @Id
+    @Column(name = "job_id", length = 100)
+    private String jobId;
+
+    private String format;
+
+    // 입력에서 처리가 끝난(커밋된) 행 수 - 건너뛴 잘못된 행도 포함 (재시작 시 이만큼 건너뜀)
+    @Column(name = "committed_rows", nullable = false)
+    private long committedRows;
+
+    // 실제로 저장된 게시글 수
+    @Column(name = "imported_rows", nullable = false)
+    private long importedRows;
+
+    @Column(name = "skipped_rows", nullable = false)
+    private long skippedRows;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private String message;
+
+    @Column(name = "updated_at")
+    private Timestamp updatedAt;
+
+    public BoardImportJob(String jobId, String format) {
+        this.jobId = jobId;
+        this.format = format;
+        this.status = Status.RUNNING;
+        this.updatedAt = new Timestamp(System.currentTimeMillis());
+    }
+}
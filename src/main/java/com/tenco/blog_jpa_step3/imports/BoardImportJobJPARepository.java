@@ -0,0 +1,20 @@
+package com.tenco.blog_jpa_step3.imports;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardImportJobJPARepository extends JpaRepository<BoardImportJob, String> {
+
+    /**
+     * 배치 커밋 지점 기록 (배치 INSERT 와 같은 트랜잭션에서 호출)
+     */
+    @Modifying
+    @Query("update BoardImportJob j set j.committedRows = :committedRows, j.importedRows = :importedRows, " +
+            "j.skippedRows = :skippedRows, j.updatedAt = CURRENT_TIMESTAMP where j.jobId = :jobId")
+    int updateCheckpoint(@Param("jobId") String jobId,
+                         @Param("committedRows") long committedRows,
+                         @Param("importedRows") long importedRows,
+                         @Param("skippedRows") long skippedRows);
+}
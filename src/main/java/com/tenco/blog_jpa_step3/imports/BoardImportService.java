@@ -0,0 +1,350 @@
+package com.tenco.blog_jpa_step3.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenco.blog_jpa_step3.board.Board;
+import com.tenco.blog_jpa_step3.board.BoardPageTags;
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
+import com.tenco.blog_jpa_step3.commom.errors.Exception400;
+import com.tenco.blog_jpa_step3.commom.errors.Exception404;
+import com.tenco.blog_jpa_step3.search.BoardSearchIndex;
+import com.tenco.blog_jpa_step3.user.User;
+import com.tenco.blog_jpa_step3.user.UserJPARepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 대량 가져오기 (NDJSON / CSV)
+ *
+ * - 요청 본문을 한 행씩 읽으며 batchSize 개가 모이면 트랜잭션 하나로 저장합니다.
+ * - 배치마다 flush / clear 하여 영속성 컨텍스트에 엔티티가 쌓이지 않게 합니다.
+ *   (ID 는 pooled 시퀀스라 hibernate.jdbc.batch_size 단위로 INSERT 가 묶입니다)
+ * - 배치와 같은 트랜잭션에서 BoardImportJob.committedRows 를 갱신하므로
+ *   실패 후 같은 jobId 로 같은 파일을 다시 보내면 마지막으로 커밋된 배치 다음 행부터 이어서 저장합니다.
+ * - 형식이 잘못된 행은 작업을 멈추지 않고 건너뛰며, 행 번호와 이유를 결과(errors)와 작업 메시지에 남깁니다.
+ *   (잘못된 행 하나 때문에 재시도할 때마다 같은 곳에서 실패하지 않도록)
+ */
+@Slf4j
+@Service
+public class BoardImportService {
+
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardImportJobJPARepository boardImportJobJPARepository;
+    private final UserJPARepository userJPARepository;
+    private final BoardSearchIndex boardSearchIndex;
+    private final PageCache pageCache;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    // board_import_job_tb.message 컬럼 길이
+    private static final int MAX_MESSAGE_LENGTH = 255;
+
+    // 결과에 담을 잘못된 행 보고의 최대 개수 (파일 전체가 잘못된 경우에도 응답이 커지지 않도록)
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    // 진행 중인 작업 (jobId -> 진행 상황) - 같은 jobId 를 동시에 두 번 실행하지 못하게 막는 용도도 겸함
+    private final Map<String, Progress> running = new ConcurrentHashMap<>();
+
+    public BoardImportService(EntityManager em,
+                              TransactionTemplate transactionTemplate,
+                              BoardImportJobJPARepository boardImportJobJPARepository,
+                              UserJPARepository userJPARepository,
+                              BoardSearchIndex boardSearchIndex,
+                              PageCache pageCache,
+                              ObjectMapper objectMapper,
+                              @Value("${blog.import.batch-size:1000}") int batchSize) {
+        this.em = em;
+        this.transactionTemplate = transactionTemplate;
+        this.boardImportJobJPARepository = boardImportJobJPARepository;
+        this.userJPARepository = userJPARepository;
+        this.boardSearchIndex = boardSearchIndex;
+        this.pageCache = pageCache;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 입력 스트림의 게시글을 가져옵니다.
+     * 작성자(username)가 없거나 존재하지 않는 사용자면 가져오기를 실행한 관리자가 작성자가 됩니다.
+     * 형식이 잘못되었거나 제목이 비어 있는 행은 건너뛰고 skipped 로 세며, 행 번호를 errors 로 보고합니다.
+     *
+     * @param jobId 작업 ID (재시작할 때 같은 값을 사용)
+     * @param format ndjson 또는 csv
+     * @param in 요청 본문 (UTF-8)
+     * @param sessionUser 가져오기를 실행한 관리자
+     * @return 작업 결과 요약
+     * @throws Exception400 형식 오류, 이미 진행 중인 작업인 경우
+     */
+    public Map<String, Object> importBoards(String jobId, String format, InputStream in, User sessionUser) throws IOException {
+        Progress progress = new Progress(jobId);
+        if (running.putIfAbsent(jobId, progress) != null) {
+            throw new Exception400("이미 진행 중인 가져오기 작업입니다: " + jobId);
+        }
+        try {
+            // 자리를 잡은 뒤에 작업 행을 읽어야 방금 끝난 다른 요청의 커밋 지점을 놓치지 않는다. (중복 저장 방지)
+            BoardImportJob job = findOrCreateJob(jobId, format);
+            if (job.getStatus() == BoardImportJob.Status.DONE) {
+                // 이미 끝난 작업을 다시 보내도 중복 저장하지 않는다.
+                return toSummary(job);
+            }
+            progress.resume(job);
+            return run(job, format, in, progress, sessionUser);
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private Map<String, Object> run(BoardImportJob job, String format, InputStream in,
+                                    Progress progress, User sessionUser) throws IOException {
+        String jobId = job.getJobId();
+        try (ImportRecordReader reader = ImportRecordReader.of(format,
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), objectMapper)) {
+            updateStatus(jobId, BoardImportJob.Status.RUNNING, null);
+
+            // 1. 지난번에 커밋된 행까지는 읽기만 하고 건너뜀
+            long resumeFrom = job.getCommittedRows();
+            for (long i = 0; i < resumeFrom; i++) {
+                if (reader.next() == null) {
+                    break;
+                }
+            }
+            if (resumeFrom > 0) {
+                log.info("게시글 가져오기 재시작 - jobId={}, {}행부터", jobId, resumeFrom + 1);
+            }
+
+            // 2. batchSize 개씩 모아서 저장
+            Map<String, Integer> userIds = new HashMap<>();
+            List<ImportRecord> batch = new ArrayList<>(batchSize);
+            long position = resumeFrom;
+            long skipped = 0;
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                position++;
+                String invalidReason = record.invalidReason();
+                if (invalidReason == null) {
+                    batch.add(record);
+                } else {
+                    skipped++;
+                    progress.rejected(record.getLine(), invalidReason);
+                }
+                if (batch.size() == batchSize) {
+                    commitBatch(progress, batch, position, skipped, userIds, sessionUser);
+                    batch.clear();
+                    skipped = 0;
+                }
+            }
+            commitBatch(progress, batch, position, skipped, userIds, sessionUser);
+
+            updateStatus(jobId, BoardImportJob.Status.DONE, progress.errorMessage());
+            Map<String, Object> summary = progress.summary();
+            summary.put("status", BoardImportJob.Status.DONE);
+            log.info("게시글 가져오기 완료 - {}", summary);
+            return summary;
+        } catch (RuntimeException | IOException e) {
+            // 커밋된 배치까지는 남아 있으므로 같은 jobId 로 다시 요청하면 이어서 진행된다.
+            updateStatus(jobId, BoardImportJob.Status.FAILED, e.getMessage());
+            log.warn("게시글 가져오기 실패 - {}, 원인: {}", progress.summary(), e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 작업 행을 찾거나 새로 만듭니다.
+     * 같은 새 jobId 로 두 요청이 동시에 들어오면 둘 다 "없음" 을 보고 INSERT 하므로 한쪽은 PK 중복으로 실패합니다.
+     * (한 서버 안에서는 running 이 먼저 막지만, 서버가 여러 대면 DB 에서 부딪힘)
+     * 이 경우 500 으로 끝내지 않고 먼저 만들어진 작업 행을 다시 읽어 합류합니다.
+     */
+    private BoardImportJob findOrCreateJob(String jobId, String format) {
+        try {
+            return transactionTemplate.execute(status ->
+                    boardImportJobJPARepository.findById(jobId)
+                            .orElseGet(() -> boardImportJobJPARepository.saveAndFlush(new BoardImportJob(jobId, format))));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("가져오기 작업 행 동시 생성 - 기존 작업에 합류, jobId={}", jobId);
+            return transactionTemplate.execute(status -> boardImportJobJPARepository.findById(jobId)
+                    .orElseThrow(() -> e));
+        }
+    }
+
+    /**
+     * 작업 진행 상황 조회 (진행 중이면 메모리의 실시간 값, 아니면 마지막으로 저장된 값)
+     *
+     * @throws Exception404 작업이 없는 경우
+     */
+    public Map<String, Object> getProgress(String jobId) {
+        Progress progress = running.get(jobId);
+        if (progress != null) {
+            return progress.summary();
+        }
+        return toSummary(boardImportJobJPARepository.findById(jobId)
+                .orElseThrow(() -> new Exception404("가져오기 작업을 찾을 수 없습니다: " + jobId)));
+    }
+
+    /**
+     * 배치 하나를 트랜잭션 하나로 저장하고 커밋 지점을 기록합니다.
+     */
+    private void commitBatch(Progress progress, List<ImportRecord> batch, long position, long skipped,
+                             Map<String, Integer> userIds, User sessionUser) {
+        if (batch.isEmpty() && skipped == 0) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Board> saved = new ArrayList<>(batch.size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 대량으로 넣은 게시글이 2차 캐시의 자주 쓰는 항목을 밀어내지 않도록 캐시에 넣지 않음
+            em.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+            for (ImportRecord record : batch) {
+                Board board = Board.builder()
+                        .title(record.getTitle())
+                        .content(record.getContent())
+                        .user(em.getReference(User.class, resolveUserId(record.getUsername(), userIds, sessionUser)))
+                        .createdAt(record.getCreatedAt() != null ? record.getCreatedAt() : now)
+                        .build();
+                em.persist(board);
+                saved.add(board);
+            }
+            boardImportJobJPARepository.updateCheckpoint(progress.jobId, position,
+                    progress.imported + batch.size(), progress.skipped + skipped);
+            // INSERT 를 내보내고 영속성 컨텍스트를 비워 메모리를 일정하게 유지
+            em.flush();
+            em.clear();
+        });
+
+        // 커밋이 끝난 뒤에만 진행 상황과 검색 색인, 페이지 캐시(새 글이 보이는 첫 페이지)에 반영
+        progress.committed(position, batch.size(), skipped);
+        for (Board board : saved) {
+            boardSearchIndex.put(board.getId(), board.getTitle(), board.getContent());
+        }
+        if (!saved.isEmpty()) {
+            pageCache.invalidate(BoardPageTags.LIST_HEAD);
+        }
+        log.debug("게시글 가져오기 진행 - {}", progress.summary());
+    }
+
+    /**
+     * 사용자 이름 -> ID (작업 동안 캐시, 없는 사용자는 관리자 ID)
+     */
+    private int resolveUserId(String username, Map<String, Integer> userIds, User sessionUser) {
+        if (username == null || username.isBlank()) {
+            return sessionUser.getId();
+        }
+        return userIds.computeIfAbsent(username, name -> userJPARepository.findByUsername(name)
+                .map(User::getId)
+                .orElse(sessionUser.getId()));
+    }
+
+    private void updateStatus(String jobId, BoardImportJob.Status status, String message) {
+        transactionTemplate.executeWithoutResult(tx -> boardImportJobJPARepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setMessage(message == null || message.length() <= MAX_MESSAGE_LENGTH
+                    ? message : message.substring(0, MAX_MESSAGE_LENGTH - 3) + "...");
+            job.setUpdatedAt(new Timestamp(System.currentTimeMillis()));
+        }));
+    }
+
+    private Map<String, Object> toSummary(BoardImportJob job) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("jobId", job.getJobId());
+        result.put("status", job.getStatus());
+        result.put("committedRows", job.getCommittedRows());
+        result.put("importedRows", job.getImportedRows());
+        result.put("skippedRows", job.getSkippedRows());
+        result.put("message", job.getMessage());
+        result.put("updatedAt", job.getUpdatedAt());
+        return result;
+    }
+
+    /**
+     * 진행 중인 작업의 실시간 진행 상황
+     * 가져오기 스레드만 갱신하고 조회 요청 스레드는 읽기만 하므로 volatile 로 충분합니다.
+     * (잘못된 행 목록만 조회 중에 복사하므로 동기화된 리스트를 사용)
+     */
+    static class Progress {
+
+        private final String jobId;
+        private final long startNanos = System.nanoTime();
+        private volatile long resumedFrom;
+        private volatile long committedRows;
+        private volatile long imported;
+        private volatile long skipped;
+        private volatile long importedThisRun;
+        private volatile long rejectedThisRun;
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        Progress(String jobId) {
+            this.jobId = jobId;
+        }
+
+        // 저장된 커밋 지점부터 이어서 진행
+        void resume(BoardImportJob job) {
+            resumedFrom = job.getCommittedRows();
+            committedRows = job.getCommittedRows();
+            imported = job.getImportedRows();
+            skipped = job.getSkippedRows();
+        }
+
+        void committed(long position, int importedRows, long skippedRows) {
+            committedRows = position;
+            imported += importedRows;
+            skipped += skippedRows;
+            importedThisRun += importedRows;
+        }
+
+        void rejected(long line, String reason) {
+            rejectedThisRun++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(line + "번째 행: " + reason);
+            }
+        }
+
+        /**
+         * 작업 메시지로 남길 잘못된 행 요약 (없으면 null)
+         */
+        String errorMessage() {
+            if (rejectedThisRun == 0) {
+                return null;
+            }
+            synchronized (errors) {
+                return "잘못된 행 " + rejectedThisRun + "개 건너뜀 - " + String.join(", ", errors);
+            }
+        }
+
+        Map<String, Object> summary() {
+            long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("jobId", jobId);
+            result.put("status", BoardImportJob.Status.RUNNING);
+            result.put("resumedFrom", resumedFrom);
+            result.put("committedRows", committedRows);
+            result.put("importedRows", imported);
+            result.put("skippedRows", skipped);
+            result.put("elapsedMs", elapsedMs);
+            result.put("rowsPerSecond", elapsedMs == 0 ? 0 : importedThisRun * 1000 / elapsedMs);
+            synchronized (errors) {
+                result.put("errors", new ArrayList<>(errors));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.tenco.blog_jpa_step3.imports;
+
+import com.tenco.blog_jpa_step3.commom.errors.Exception400;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV (RFC 4180) 리더
+ * 첫 행은 헤더이며 title 컬럼은 필수, content / username / createdAt 은 선택입니다.
+ * 큰따옴표로 감싼 값 안의 쉼표, 줄바꿈, "" (따옴표 이스케이프) 를 지원합니다.
+ */
+class CsvImportRecordReader implements ImportRecordReader {
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long row;
+    private boolean unterminated; // 마지막으로 읽은 행의 따옴표가 닫히지 않은 채 입력이 끝났는지
+
+    CsvImportRecordReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        List<String> header = readRow();
+        if (header == null) {
+            throw new Exception400("CSV 헤더가 없습니다");
+        }
+        if (unterminated) {
+            throw new Exception400("CSV 헤더의 따옴표가 닫히지 않았습니다");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new Exception400("CSV 헤더에 title 컬럼이 없습니다");
+        }
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        List<String> fields;
+        do {
+            fields = readRow();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty() && !unterminated); // 빈 줄
+
+        if (unterminated) {
+            // 이 행부터 입력 끝까지가 한 값으로 읽혔으므로 이 행만 잘못된 행으로 보고하고 끝난다.
+            return ImportRecord.invalid(row, "따옴표가 닫히지 않았습니다");
+        }
+        return ImportRecordReader.record(row,
+                field(fields, "title"),
+                field(fields, "content"),
+                field(fields, "username"),
+                field(fields, "createdAt"));
+    }
+
+    private String field(List<String> fields, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 한 행을 읽어 필드 목록으로 반환합니다. 입력이 끝났으면 null
+     */
+    private List<String> readRow() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        row++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int peek = reader.read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        unterminated = quoted;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
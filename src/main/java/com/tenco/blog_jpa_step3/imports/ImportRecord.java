@@ -0,0 +1,51 @@
+package com.tenco.blog_jpa_step3.imports;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.sql.Timestamp;
+
+/**
+ * 가져오기 파일의 한 행(게시글 하나)
+ * username, createdAt 은 비어 있을 수 있습니다.
+ * 형식이 잘못된 행도 작업 전체를 멈추지 않도록 예외 대신 error 가 채워진 행으로 반환합니다. (건너뛰고 행 번호를 보고)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class ImportRecord {
+
+    // board_tb.title 컬럼 길이 (넘으면 INSERT 가 실패하여 배치 전체가 롤백되므로 미리 건너뜀)
+    static final int MAX_TITLE_LENGTH = 255;
+
+    private final long line; // 입력에서의 행 번호 (NDJSON: 줄 번호, CSV: 헤더를 포함한 레코드 번호)
+    private final String title;
+    private final String content;
+    private final String username;
+    private final Timestamp createdAt;
+    private final String error; // 읽는 중 발견한 형식 오류 (정상 행이면 null)
+
+    static ImportRecord of(long line, String title, String content, String username, Timestamp createdAt) {
+        return new ImportRecord(line, title, content, username, createdAt, null);
+    }
+
+    static ImportRecord invalid(long line, String error) {
+        return new ImportRecord(line, null, null, null, null, error);
+    }
+
+    /**
+     * @return 저장할 수 없는 이유, 저장할 수 있으면 null
+     */
+    String invalidReason() {
+        if (error != null) {
+            return error;
+        }
+        if (title == null || title.isBlank()) {
+            return "제목이 비어 있습니다";
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            return "제목이 " + MAX_TITLE_LENGTH + "자를 넘습니다";
+        }
+        return null;
+    }
+}
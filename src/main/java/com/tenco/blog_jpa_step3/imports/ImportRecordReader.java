@@ -0,0 +1,47 @@
+package com.tenco.blog_jpa_step3.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenco.blog_jpa_step3.commom.errors.Exception400;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Timestamp;
+
+/**
+ * 가져오기 입력을 한 행씩 읽는 리더
+ * 요청 본문 전체를 메모리에 올리지 않고 BufferedReader 에서 필요한 만큼만 읽습니다.
+ */
+interface ImportRecordReader extends Closeable {
+
+    /**
+     * @return 다음 행, 입력이 끝나면 null (형식이 잘못된 행은 ImportRecord.error 가 채워진 행)
+     */
+    ImportRecord next() throws IOException;
+
+    static ImportRecordReader of(String format, BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        if ("csv".equalsIgnoreCase(format)) {
+            return new CsvImportRecordReader(reader);
+        }
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return new NdjsonImportRecordReader(reader, objectMapper);
+        }
+        throw new Exception400("지원하지 않는 가져오기 형식입니다: " + format);
+    }
+
+    /**
+     * 읽은 값으로 행을 만듭니다. 작성 시간 형식이 잘못되었으면 그 행만 잘못된 행으로 표시합니다.
+     * 작성 시간은 "yyyy-MM-dd HH:mm:ss" 또는 ISO-8601 ("yyyy-MM-ddTHH:mm:ss") 형식입니다.
+     */
+    static ImportRecord record(long line, String title, String content, String username, String createdAt) {
+        Timestamp timestamp = null;
+        if (createdAt != null && !createdAt.isBlank()) {
+            try {
+                timestamp = Timestamp.valueOf(createdAt.trim().replace('T', ' '));
+            } catch (IllegalArgumentException e) {
+                return ImportRecord.invalid(line, "작성 시간 형식이 잘못되었습니다: " + createdAt);
+            }
+        }
+        return ImportRecord.of(line, title, content, username, timestamp);
+    }
+}
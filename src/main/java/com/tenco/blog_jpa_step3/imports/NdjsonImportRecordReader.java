@@ -0,0 +1,62 @@
+package com.tenco.blog_jpa_step3.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * NDJSON (한 줄에 JSON 객체 하나) 리더
+ * 예) {"title":"제목","content":"내용","username":"길동","createdAt":"2024-01-01 10:00:00"}
+ * 빈 줄은 건너뜁니다.
+ */
+class NdjsonImportRecordReader implements ImportRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long line;
+
+    NdjsonImportRecordReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            return ImportRecord.invalid(line, "JSON 형식이 잘못되었습니다");
+        }
+        if (!node.isObject()) {
+            return ImportRecord.invalid(line, "JSON 객체가 아닙니다");
+        }
+        return ImportRecordReader.record(line,
+                text(node, "title"),
+                text(node, "content"),
+                text(node, "username"),
+                text(node, "createdAt"));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
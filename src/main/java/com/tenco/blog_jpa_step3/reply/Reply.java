@@ -4,6 +4,8 @@ import com.tenco.blog_jpa_step3.board.Board;
 import com.tenco.blog_jpa_step3.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -15,13 +17,19 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "reply_tb")
+// 2차 캐시 - Board.replies 컬렉션 캐시는 댓글 ID 만 담으므로 댓글 자체도 캐시해야 N+1 이 생기지 않는다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reply")
+// 댓글 페이징 쿼리(board_id = ? AND status = ? AND id > ?)를 위한 복합 인덱스
+@Table(name = "reply_tb", indexes = @Index(name = "idx_reply_board_status_id", columnList = "board_id, status, id"))
 @ToString(exclude = {"user", "board"}) // 연관된 엔티티를 제외하여 순환 참조 방지 및 보안 강화
 public class Reply {
     // 연관된 엔티티를 제외하여 순환 참조 방지 및 보안 강화
     //일반적으로 id는 Long 타입을 사용하는 것이 권장
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스 pooled 할당 (JDBC 배치 INSERT 가능)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reply_seq")
+    @SequenceGenerator(name = "reply_seq", sequenceName = "reply_seq", allocationSize = 50)
     private Integer id;
 
     // not null 지정
@@ -1,17 +1,50 @@
 package com.tenco.blog_jpa_step3.reply;
 
 import com.tenco.blog_jpa_step3.user.User;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @RequiredArgsConstructor
 @Controller
 public class ReplyController {
     private final ReplyService replyService;
 
+    /**
+     * 댓글 더보기 (다음 페이지 댓글 조각 HTML 반환)
+     * 요청 주소: **GET http://localhost:8080/board/{boardId}/replies?cursor={replyId}**
+     * 다음 페이지가 있다면 X-Next-Cursor 응답 헤더에 다음 커서를 담아준다.
+     *
+     * @param boardId 게시글 ID
+     * @param cursor  이전 페이지의 마지막 댓글 ID
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param session HTTP 세션 객체
+     * @return 댓글 목록 부분 템플릿
+     */
+    @GetMapping("/board/{boardId}/replies")
+    public String list(@PathVariable Integer boardId,
+                       @RequestParam(name = "cursor", required = false) Integer cursor,
+                       HttpServletRequest request,
+                       HttpServletResponse response,
+                       HttpSession session) {
+        User sessionUser = (User) session.getAttribute("sessionUser");
+        ReplyDTO.PageDTO page = replyService.getReplyPage(boardId, cursor);
+
+        if (page.isHasNext()) {
+            response.setHeader("X-Next-Cursor", String.valueOf(page.getNextCursor()));
+        }
+        request.setAttribute("boardId", boardId);
+        request.setAttribute("replies", page.toViews(sessionUser));
+        return "board/reply-list";
+    }
+
     /**
      * 댓글 생성
      *
@@ -3,6 +3,9 @@ package com.tenco.blog_jpa_step3.reply;
 import com.tenco.blog_jpa_step3.board.Board;
 import com.tenco.blog_jpa_step3.user.User;
 import lombok.Data;
+import lombok.Getter;
+
+import java.util.List;
 
 public class ReplyDTO {
 
@@ -20,4 +23,73 @@ public class ReplyDTO {
                     .build();
         }
     }
+
+    /**
+     * 댓글 한 건의 읽기 전용 스냅샷
+     * 게시글 상세 캐시에 공유되어 저장되기 때문에 모든 필드는 final 이며 사용자별 값은 담지 않는다.
+     */
+    @Getter
+    public static class ItemDTO {
+        private final Integer id;
+        private final String comment;
+        private final Integer userId;
+        private final String username;
+
+        public ItemDTO(Reply reply) {
+            this.id = reply.getId();
+            this.comment = reply.getComment();
+            this.userId = reply.getUser().getId();
+            this.username = reply.getUser().getUsername();
+        }
+    }
+
+    /**
+     * 화면 출력용 댓글
+     * 공유 스냅샷(ItemDTO)을 변경하지 않고, 현재 사용자 기준의 replyOwner 값을 더해서 새로 만든다.
+     */
+    @Getter
+    public static class ViewDTO {
+        private final Integer id;
+        private final String comment;
+        private final String username;
+        private final boolean replyOwner; // 현재 로그인한 사용자가 작성한 댓글 인지
+
+        public ViewDTO(ItemDTO item, User sessionUser) {
+            this.id = item.getId();
+            this.comment = item.getComment();
+            this.username = item.getUsername();
+            this.replyOwner = sessionUser != null && item.getUserId().equals(sessionUser.getId());
+        }
+    }
+
+    /**
+     * 댓글 키셋 페이징 결과
+     * 다음 페이지 존재 여부 확인을 위해 size + 1 건을 조회한 결과를 받아서 잘라낸다.
+     */
+    @Getter
+    public static class PageDTO {
+        private final List<ItemDTO> replies;
+        private final boolean hasNext;
+        private final Integer nextCursor; // 현재 페이지의 마지막 댓글 ID
+
+        public PageDTO(List<Reply> rows, int size) {
+            this.hasNext = rows.size() > size;
+            this.replies = (hasNext ? rows.subList(0, size) : rows).stream()
+                    .map(ItemDTO::new)
+                    .toList();
+            this.nextCursor = replies.isEmpty() ? null : replies.get(replies.size() - 1).getId();
+        }
+
+        /**
+         * 현재 사용자 기준으로 화면 출력용 댓글 목록을 만든다.
+         *
+         * @param sessionUser 현재 세션에 로그인한 사용자 (비로그인 시 null)
+         * @return replyOwner 값이 설정된 댓글 목록
+         */
+        public List<ViewDTO> toViews(User sessionUser) {
+            return replies.stream()
+                    .map(item -> new ViewDTO(item, sessionUser))
+                    .toList();
+        }
+    }
 }
@@ -1,10 +1,15 @@
 package com.tenco.blog_jpa_step3.reply;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReplyJPARepository extends JpaRepository<Reply, Integer> {
 
@@ -12,6 +17,38 @@ public interface ReplyJPARepository extends JpaRepository<Reply, Integer> {
     @Query("select r from Reply r where r.board.id = :boardId")
     List<Reply> findByBoardId(@Param("boardId") Integer boardId);
 
+    /**
+     * 게시글 상세보기용 댓글 페이지 조회 (키셋 페이징)
+     * 댓글 작성자(User)를 fetch join 으로 함께 가져오고, 삭제된 댓글은 SQL 단계에서 제외한다.
+     * reply_tb(board_id, status, id) 복합 인덱스를 그대로 타기 때문에
+     * 댓글이 몇 만개인 게시글이라도 페이지 크기만큼만 읽는다.
+     * SQL: ... WHERE board_id = ? AND status = 'ACTIVE' AND id > ? ORDER BY id ASC LIMIT n
+     *
+     * @param boardId  게시글 ID
+     * @param cursor   이전 페이지의 마지막 댓글 ID (첫 페이지는 0)
+     * @param pageable 조회 개수 (항상 0 페이지로 전달)
+     * @return 활성 상태의 댓글 목록 (작성자 포함, ID 오름차순)
+     */
+    @Query("select r from Reply r join fetch r.user " +
+            "where r.board.id = :boardId and r.status = 'ACTIVE' and r.id > :cursor order by r.id asc")
+    List<Reply> findActivePage(@Param("boardId") Integer boardId,
+                               @Param("cursor") Integer cursor,
+                               Pageable pageable);
+
+    /**
+     * 전체 댓글을 스트림으로 조회 (내보내기 전용)
+     * 게시글 / 작성자는 FK 값(ID)만 필요하므로 조인하지 않는다.
+     * 사용 방법은 BoardJPARepository.streamAll 과 같다. (트랜잭션 안에서, close 필수, 주기적으로 clear)
+     *
+     * @return 댓글 스트림 (ID 오름차순, 삭제된 댓글 포함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r from Reply r order by r.id asc")
+    Stream<Reply> streamAll();
+
     // 메서드 네이밍 전략을 활용하여 쿼리 자동 생성
     // List<Reply> findByBoard_Id(Integer boardId);
 }
@@ -0,0 +1,58 @@
+package com.tenco.blog_jpa_step3.reply;
+
+import com.tenco.blog_jpa_step3.board.Board;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 댓글 삭제 저장소 (JdbcTemplate)
+ *
+ * JPQL 벌크 DELETE 는 reply 2차 캐시 영역과 board-replies 컬렉션 영역 전체를 비우기 때문에,
+ * 댓글 하나를 지울 때마다 다른 게시글의 댓글 캐시까지 모두 사라집니다.
+ * 그래서 JdbcTemplate 으로 지우고 (JpaTransactionManager 가 같은 커넥션을 공유하므로 같은 트랜잭션)
+ * 지운 댓글과 그 게시글의 댓글 컬렉션만 2차 캐시에서 제거합니다. (BoardCounterRepository 와 같은 방식)
+ */
+@RequiredArgsConstructor
+@Repository
+public class ReplyJdbcRepository {
+
+    private static final String DELETE_SQL = "DELETE FROM reply_tb WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 댓글 삭제
+     * deleteById 와 달리 실제로 지운 행 수를 돌려주므로, 같은 댓글을 동시에 지우는 요청 중 한쪽만 1 을 받는다.
+     * (뒤에 온 DELETE 는 앞 트랜잭션의 행 잠금을 기다렸다가 0 행을 지운다)
+     *
+     * @param replyId 댓글 ID
+     * @param boardId 댓글이 달린 게시글 ID (댓글 컬렉션 캐시 제거용)
+     * @return 삭제된 행 수 (이미 지워졌으면 0)
+     */
+    public int deleteAndCount(int replyId, int boardId) {
+        int deleted = jdbcTemplate.update(DELETE_SQL, replyId);
+        evict(replyId, boardId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 다른 트랜잭션이 지우기 전 상태로 캐시를 다시 채웠을 수 있으므로 커밋 직후에 한번 더 제거한다.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(replyId, boardId);
+                }
+            });
+        }
+        return deleted;
+    }
+
+    private void evict(int replyId, int boardId) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(Reply.class, replyId);
+        cache.evictCollectionData(Board.class.getName() + ".replies", boardId);
+    }
+}
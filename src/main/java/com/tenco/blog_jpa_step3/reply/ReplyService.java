@@ -1,20 +1,50 @@
 package com.tenco.blog_jpa_step3.reply;
 
 import com.tenco.blog_jpa_step3.board.Board;
+import com.tenco.blog_jpa_step3.board.BoardCounterRepository;
+import com.tenco.blog_jpa_step3.board.BoardDetailCache;
 import com.tenco.blog_jpa_step3.board.BoardJPARepository;
+import com.tenco.blog_jpa_step3.board.BoardPageTags;
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
 import com.tenco.blog_jpa_step3.commom.errors.Exception403;
 import com.tenco.blog_jpa_step3.commom.errors.Exception404;
 import com.tenco.blog_jpa_step3.user.User;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 @Service
 public class ReplyService {
 
+    // 한번에 출력할 댓글 수
+    public static final int PAGE_SIZE = 20;
+
     private final BoardJPARepository boardJPARepository;
+    private final BoardCounterRepository boardCounterRepository;
     private final ReplyJPARepository replyJPARepository;
+    private final ReplyJdbcRepository replyJdbcRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final PageCache pageCache;
+
+    /**
+     * 게시글의 댓글을 한 페이지만 조회합니다. (키셋 페이징)
+     * 결과는 사용자와 무관한 읽기 전용 스냅샷이며, 작성자 여부는 PageDTO.toViews 로 따로 계산합니다.
+     *
+     * @param boardId 게시글 ID
+     * @param cursor 이전 페이지의 마지막 댓글 ID, 첫 페이지는 null
+     * @return 한 페이지 분량의 댓글과 다음 커서 정보
+     */
+    @Transactional(readOnly = true) // 읽기 전용 - 복제(replica) DB 에서 조회
+    public ReplyDTO.PageDTO getReplyPage(int boardId, Integer cursor) {
+        int start = (cursor == null) ? 0 : cursor;
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건을 더 조회합니다.
+        List<Reply> rows = replyJPARepository.findActivePage(boardId, start, PageRequest.of(0, PAGE_SIZE + 1));
+        return new ReplyDTO.PageDTO(rows, PAGE_SIZE);
+    }
 
     @Transactional
     public void saveReply(ReplyDTO.SaveDTO reqDTO, User sessionUser) {
@@ -23,6 +53,11 @@ public class ReplyService {
         Reply reply = reqDTO.toEntity(sessionUser, board);
 
         replyJPARepository.save(reply);
+        // 게시글의 댓글 수 / 마지막 댓글 시간 갱신 (단일 UPDATE 문)
+        boardCounterRepository.incrementReplyCount(board.getId());
+        // 댓글 목록이 바뀌었으므로 게시글 상세 / 페이지 캐시 무효화
+        boardDetailCache.invalidate(board.getId());
+        pageCache.invalidate(BoardPageTags.board(board.getId()));
     }
 
     @Transactional
@@ -38,7 +73,15 @@ public class ReplyService {
             throw new Exception403("해당 게시글의 댓글이 아닙니다.");
         }
 
-        replyJPARepository.deleteById(replyId);
+        int deleted = replyJdbcRepository.deleteAndCount(replyId, boardId);
+        // 이 요청이 실제로 지운 활성 댓글일 때만 게시글의 댓글 수 감소 + 마지막 댓글 시간 재계산 (단일 UPDATE 문)
+        // (같은 댓글을 동시에 지우면 둘 다 조회에는 성공하지만 DELETE 는 한쪽만 1 행을 지운다)
+        if (deleted > 0 && "ACTIVE".equals(reply.getStatus())) {
+            boardCounterRepository.decrementReplyCount(boardId);
+        }
+        // 댓글 목록이 바뀌었으므로 게시글 상세 / 페이지 캐시 무효화
+        boardDetailCache.invalidate(boardId);
+        pageCache.invalidate(BoardPageTags.board(boardId));
     }
 
 }
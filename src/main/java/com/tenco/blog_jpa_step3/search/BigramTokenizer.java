@@ -0,0 +1,83 @@
+package com.tenco.blog_jpa_step3.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 문자 bi-gram 토크나이저
+ * 한국어는 띄어쓰기 단위(어절)에 조사가 붙기 때문에 단어 단위로 자르면 "게시글을" 로 "게시글" 을 찾을 수 없습니다.
+ * 그래서 글자(문자/숫자)로 이루어진 구간마다 두 글자씩 겹쳐서 자릅니다. (형태소 분석기 없이 부분 일치 검색 가능)
+ * ex) "게시글을 작성" -> [게시, 시글, 글을, 작성]
+ * 한 글자짜리 구간은 그 글자 하나를 토큰으로 사용합니다.
+ *
+ * 색인할 때는 bi-gram 과 함께 글자 하나짜리 토큰(uni-gram)도 만듭니다. (tokenizeForIndex)
+ * 그래야 "책" 처럼 한 글자 검색어로 "책을" 이 들어간 글을 찾을 수 있습니다. (한 글자 명사가 많은 한국어)
+ * 검색어는 두 글자 이상 구간이면 bi-gram 만 사용하므로 여러 글자 검색의 정확도와 속도는 그대로입니다.
+ */
+final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 문자열을 bi-gram 토큰 목록으로 변환합니다. (중복 포함, 등장 순서대로)
+     *
+     * @param text 원본 문자열 (null 허용)
+     * @return bi-gram 토큰 목록
+     */
+    static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    /**
+     * 색인용 토큰 목록 - bi-gram 에 더해 모든 글자를 uni-gram 토큰으로 추가합니다. (중복 포함)
+     * ex) "책을 샀다" -> [책을, 책, 을, 샀다, 샀, 다]
+     *
+     * @param text 원본 문자열 (null 허용)
+     * @return bi-gram + uni-gram 토큰 목록
+     */
+    static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        // 전각/반각, 호환 자모 등을 통일하고 영문은 소문자로 변환
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int start = -1; // 현재 글자 구간의 시작 위치
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean letter = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                addRun(codePoints, start, i, unigrams, tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // [start, end) 구간을 bi-gram 으로 자른다. (unigrams 이면 글자 하나짜리 토큰도 추가)
+    private static void addRun(int[] codePoints, int start, int end, boolean unigrams, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(new String(codePoints, start, 1));
+            return;
+        }
+        for (int i = start; i < end; i++) {
+            if (i + 1 < end) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+            if (unigrams) {
+                tokens.add(new String(codePoints, i, 1));
+            }
+        }
+    }
+}
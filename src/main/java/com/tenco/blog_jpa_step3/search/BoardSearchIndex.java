@@ -0,0 +1,327 @@
+package com.tenco.blog_jpa_step3.search;
+
+import com.tenco.blog_jpa_step3.board.BoardContent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 제목/내용 검색을 위한 메모리 역색인(inverted index)입니다.
+ * 토큰(문자 bi-gram, 한 글자 검색용 uni-gram) -> 압축된 게시글 ID 목록(PostingList) 형태로 보관하기 때문에
+ * LIKE '%검색어%' 처럼 테이블 전체를 읽지 않고, 검색어 토큰의 목록만 교집합하면 됩니다.
+ *
+ * 애플리케이션 시작 시 board_tb 를 스트리밍으로 한번 읽어서 만들고,
+ * 이후에는 BoardService 의 작성/수정/삭제 시점에 해당 게시글만 갱신합니다.
+ *
+ * 잠금은 전역 하나가 아니라 잘게 나눠서 잡습니다.
+ * - 토큰 목록: 목록마다 자기 잠금 (PostingList), 목록 추가/제거는 ConcurrentHashMap.compute 의 버킷 잠금
+ * - 게시글: 게시글 ID 별 줄무늬(striped) 잠금 - 같은 게시글의 갱신끼리만 순서를 맞춘다.
+ * 따라서 쓰기 하나가 검색 전체를 막지 않습니다. (검색은 한 게시글의 갱신 도중 상태를 잠깐 볼 수 있음)
+ *
+ * 초기 색인 중에 들어온 작성/수정/삭제는 바로 반영하고 게시글 ID 를 기록해 두며,
+ * 스캔이 그 게시글에 도달하면 (스캔 시작 시점의 옛 내용일 수 있으므로) 건너뜁니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardSearchIndex {
+
+    // 본문은 board_content_tb 에 (길면 압축되어) 있으므로 조인해서 읽고 BoardContent.decode 로 푼다.
+    private static final String SCAN_SQL = "SELECT b.id, b.title, c.data, c.compressed, c.original_length " +
+            "FROM board_tb b LEFT JOIN board_content_tb c ON c.id = b.content_id ORDER BY b.id";
+    private static final int FETCH_SIZE = 1000;
+
+    private static final int TITLE_WEIGHT = 3; // 제목에 등장한 토큰은 내용보다 3배 가중치
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int DOC_LOCK_STRIPES = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 토큰 -> 게시글 ID 목록
+    private final Map<String, PostingList> postings = new ConcurrentHashMap<>();
+    // 게시글 ID -> 색인된 토큰 (수정/삭제 시 기존 토큰을 지우기 위해 보관)
+    private final Map<Integer, String[]> docTokens = new ConcurrentHashMap<>();
+    private final Object[] docLocks = newLocks();
+    // 초기 색인 중에 작성/수정/삭제된 게시글 ID (초기 색인이 끝나면 null)
+    private volatile Set<Integer> writtenDuringBuild = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 애플리케이션 시작 후 board_tb 전체를 스트리밍으로 읽어 색인을 만듭니다.
+     * 결과를 List 로 모으지 않고 한 행씩 처리하기 때문에 게시글 수와 상관없이 메모리 사용량이 일정합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SCAN_SQL);
+                ps.setFetchSize(FETCH_SIZE);
+                return ps;
+            }, (RowCallbackHandler) rs -> putScanned(rs.getInt(1), rs.getString(2),
+                    BoardContent.decode(rs.getBytes(3), rs.getBoolean(4), rs.getInt(5))));
+        } finally {
+            writtenDuringBuild = null;
+        }
+        log.info("검색 색인 생성 완료 - 게시글 {}건, 토큰 {}개, {}ms",
+                docTokens.size(), postings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 게시글을 색인에 추가하거나, 이미 있다면 새 제목/내용으로 교체합니다.
+     *
+     * @param boardId 게시글 ID
+     * @param title 제목
+     * @param content 내용
+     */
+    public void put(int boardId, String title, String content) {
+        // 토큰별 가중치 계산은 잠금 밖에서 처리
+        Map<String, Integer> weights = weights(title, content);
+        synchronized (docLock(boardId)) {
+            markWrittenDuringBuild(boardId);
+            putInternal(boardId, weights);
+        }
+    }
+
+    /**
+     * 게시글을 색인에서 제거합니다.
+     *
+     * @param boardId 게시글 ID
+     */
+    public void remove(int boardId) {
+        synchronized (docLock(boardId)) {
+            markWrittenDuringBuild(boardId);
+            removeInternal(boardId);
+        }
+    }
+
+    /**
+     * 초기 색인 스캔에서 읽은 게시글을 색인합니다.
+     * 스캔 도중 이미 작성/수정/삭제가 반영된 게시글은 스캔 값이 더 오래되었을 수 있으므로 건너뜁니다.
+     */
+    void putScanned(int boardId, String title, String content) {
+        Map<String, Integer> weights = weights(title, content);
+        synchronized (docLock(boardId)) {
+            Set<Integer> written = writtenDuringBuild;
+            if (written != null && written.contains(boardId)) {
+                return;
+            }
+            putInternal(boardId, weights);
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 색인을 갱신합니다. (롤백된 변경이 검색되지 않도록)
+     * 트랜잭션 밖에서 호출되면 바로 갱신합니다.
+     */
+    public void putAfterCommit(int boardId, String title, String content) {
+        afterCommit(() -> put(boardId, title, content));
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 게시글을 색인에서 제거합니다.
+     */
+    public void removeAfterCommit(int boardId) {
+        afterCommit(() -> remove(boardId));
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 게시글을 점수(가중치 합) 순으로 찾습니다.
+     *
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 해당 페이지의 게시글 ID 목록(점수 내림차순)과 전체 결과 수
+     */
+    public Hits search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            return Hits.EMPTY;
+        }
+        String trimmed = query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+        Set<String> tokens = new LinkedHashSet<>(BigramTokenizer.tokenize(trimmed));
+        if (tokens.isEmpty()) {
+            return Hits.EMPTY;
+        }
+
+        // 짧은 목록부터 교집합 (후보를 빨리 줄이기 위해)
+        List<PostingList> lists = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            PostingList list = postings.get(token);
+            if (list == null) {
+                return Hits.EMPTY;
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        // 목록별로 그 목록의 잠금 안에서만 풀어낸다. (다른 토큰의 쓰기와 경쟁하지 않음)
+        PostingList.Entries first = lists.get(0).decode();
+        int[] ids = first.ids;
+        int[] scores = first.weights;
+        int count = ids.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            PostingList.Entries other = lists.get(i).decode();
+            count = intersect(ids, scores, count, other.ids, other.weights);
+        }
+
+        // 점수 내림차순, 같으면 최신 글(ID 큰 순)
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        final int[] finalIds = ids;
+        final int[] finalScores = scores;
+        Arrays.sort(order, (a, b) -> finalScores[a] != finalScores[b]
+                ? Integer.compare(finalScores[b], finalScores[a])
+                : Integer.compare(finalIds[b], finalIds[a]));
+
+        // page * size 는 큰 page 에서 int 범위를 넘으므로 long 으로 계산한다. (넘어가면 빈 페이지)
+        int from = (int) Math.min(Math.max(page, 0) * (long) size, count);
+        int to = (int) Math.min(from + (long) size, count);
+        List<Integer> pageIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageIds.add(finalIds[order[i]]);
+        }
+        return new Hits(pageIds, count);
+    }
+
+    /**
+     * 색인 통계 (관리자 화면 노출용)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("documents", docTokens.size());
+        result.put("tokens", postings.size());
+        result.put("building", writtenDuringBuild != null);
+        return result;
+    }
+
+    // 두 정렬된 목록의 교집합을 ids/scores 앞쪽에 다시 채우고 남은 개수를 반환한다.
+    private static int intersect(int[] ids, int[] scores, int count, int[] otherIds, int[] otherWeights) {
+        int i = 0;
+        int j = 0;
+        int out = 0;
+        while (i < count && j < otherIds.length) {
+            if (ids[i] == otherIds[j]) {
+                ids[out] = ids[i];
+                scores[out] = scores[i] + otherWeights[j];
+                out++;
+                i++;
+                j++;
+            } else if (ids[i] < otherIds[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return out;
+    }
+
+    private static Map<String, Integer> weights(String title, String content) {
+        Map<String, Integer> weights = new HashMap<>();
+        BigramTokenizer.tokenizeForIndex(title).forEach(token -> weights.merge(token, TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.tokenizeForIndex(content).forEach(token -> weights.merge(token, CONTENT_WEIGHT, Integer::sum));
+        return weights;
+    }
+
+    // 게시글 잠금을 잡은 상태에서 호출해야 한다.
+    private void putInternal(int boardId, Map<String, Integer> weights) {
+        String[] previous = docTokens.get(boardId);
+        if (previous != null) {
+            // 새 내용에 없는 토큰만 지운다. (남는 토큰은 아래 add 에서 가중치만 교체)
+            for (String token : previous) {
+                if (!weights.containsKey(token)) {
+                    removePosting(token, boardId);
+                }
+            }
+        }
+        weights.forEach((token, weight) -> postings.compute(token, (t, list) -> {
+            PostingList target = list == null ? new PostingList() : list;
+            target.add(boardId, weight);
+            return target;
+        }));
+        docTokens.put(boardId, weights.keySet().toArray(new String[0]));
+    }
+
+    // 게시글 잠금을 잡은 상태에서 호출해야 한다.
+    private void removeInternal(int boardId) {
+        String[] tokens = docTokens.remove(boardId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            removePosting(token, boardId);
+        }
+    }
+
+    // 비게 된 목록은 같은 버킷 잠금 안에서 맵에서 뺀다. (동시에 같은 토큰에 추가하는 쓰기와 엇갈리지 않음)
+    private void removePosting(String token, int boardId) {
+        postings.computeIfPresent(token, (t, list) -> list.remove(boardId) && list.size() == 0 ? null : list);
+    }
+
+    private void markWrittenDuringBuild(int boardId) {
+        Set<Integer> written = writtenDuringBuild;
+        if (written != null) {
+            written.add(boardId);
+        }
+    }
+
+    private Object docLock(int boardId) {
+        return docLocks[Math.floorMod(boardId, DOC_LOCK_STRIPES)];
+    }
+
+    private static Object[] newLocks() {
+        Object[] locks = new Object[DOC_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 검색 결과 (한 페이지의 게시글 ID 와 전체 결과 수)
+     */
+    @Getter
+    public static class Hits {
+        static final Hits EMPTY = new Hits(Collections.emptyList(), 0);
+
+        private final List<Integer> ids;
+        private final int total;
+
+        Hits(List<Integer> ids, int total) {
+            this.ids = ids;
+            this.total = total;
+        }
+    }
+}
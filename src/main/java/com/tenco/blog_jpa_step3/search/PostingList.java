@@ -0,0 +1,217 @@
+package com.tenco.blog_jpa_step3.search;
+
+import java.util.Arrays;
+
+/**
+ * 압축된 포스팅 리스트 (하나의 토큰이 등장하는 게시글 ID 목록)
+ * 게시글 ID 를 오름차순으로 정렬하여 "이전 ID 와의 차이(delta)" 와 "가중치" 를
+ * 가변 길이 정수(varint, 7비트 단위)로 byte[] 에 저장합니다.
+ * 대부분의 delta 는 작기 때문에 int[] 로 저장할 때보다 훨씬 적은 메모리를 사용합니다.
+ *
+ * 새 게시글은 ID 가 항상 가장 크므로 뒤에 이어 붙이기만 하면 되고(O(1)),
+ * 수정/삭제처럼 중간 값이 바뀌는 경우에도 목록을 풀지 않고 바이트를 앞에서부터 훑어 위치를 찾은 뒤
+ * 바뀌는 항목(과 바로 다음 항목의 delta)의 바이트만 바꿔 끼웁니다. (목록 전체 재인코딩 / 배열 할당 없음)
+ *
+ * 목록마다 자기 자신을 모니터로 동기화하므로, 서로 다른 토큰의 목록은 동시에 읽고 쓸 수 있습니다.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length; // 사용 중인 바이트 수
+    private int size; // 게시글 수
+    private int lastId; // 마지막(가장 큰) 게시글 ID
+
+    // 수정/삭제 시 찾은 항목의 위치 (잠금 안에서만 사용)
+    private int foundStart; // 항목 시작 바이트
+    private int foundWeightStart; // 가중치 시작 바이트
+    private int foundEnd; // 항목 끝 바이트 (다음 항목 시작)
+    private int foundId; // 찾은 항목의 ID (docId 이상인 첫 항목, 없으면 -1)
+    private int foundPrevId; // 바로 앞 항목의 ID (없으면 0)
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 게시글을 추가합니다. 이미 있다면 가중치를 교체합니다.
+     */
+    synchronized void add(int docId, int weight) {
+        if (size == 0 || docId > lastId) {
+            append(docId, weight);
+            return;
+        }
+
+        seek(docId);
+        if (foundId == docId) {
+            // 가중치만 교체
+            splice(foundWeightStart, foundEnd, varint(weight));
+            return;
+        }
+        // foundId 항목 앞에 끼워 넣기 - 새 항목 + (다음 항목의 delta 를 새 항목 기준으로 다시 계산)
+        byte[] inserted = concat(varint(docId - foundPrevId), varint(weight), varint(foundId - docId));
+        splice(foundStart, foundWeightStart, inserted);
+        size++;
+    }
+
+    /**
+     * 게시글을 제거합니다.
+     *
+     * @return 제거되었으면 true
+     */
+    synchronized boolean remove(int docId) {
+        if (size == 0 || docId > lastId) {
+            return false;
+        }
+        seek(docId);
+        if (foundId != docId) {
+            return false;
+        }
+
+        int start = foundStart;
+        int prevId = foundPrevId;
+        if (foundEnd == length) {
+            // 마지막 항목
+            splice(start, foundEnd, new byte[0]);
+            lastId = prevId;
+        } else {
+            // 지울 항목 + 다음 항목의 delta 를 "앞 항목 기준 다음 항목의 delta" 하나로 바꾼다.
+            seek(docId + 1);
+            splice(start, foundWeightStart, varint(foundId - prevId));
+        }
+        size--;
+        if (size == 0) {
+            lastId = 0;
+        }
+        if (data.length > 64 && length < data.length / 4) {
+            data = Arrays.copyOf(data, data.length / 2);
+        }
+        return true;
+    }
+
+    /**
+     * 게시글 ID(오름차순)와 가중치를 풀어서 반환합니다.
+     * 검색 중 다른 스레드가 목록을 바꾸더라도 한 시점의 일관된 내용을 받습니다.
+     */
+    synchronized Entries decode() {
+        int[] ids = new int[size];
+        int[] weights = new int[size];
+        int pos = 0;
+        int id = 0;
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            int weight = 0;
+            shift = 0;
+            do {
+                b = data[pos++];
+                weight |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            id += delta;
+            ids[i] = id;
+            weights[i] = weight;
+        }
+        return new Entries(ids, weights);
+    }
+
+    /**
+     * 풀어낸 포스팅 리스트 (ids 오름차순, weights 는 같은 위치의 가중치)
+     */
+    static final class Entries {
+        final int[] ids;
+        final int[] weights;
+
+        Entries(int[] ids, int[] weights) {
+            this.ids = ids;
+            this.weights = weights;
+        }
+    }
+
+    // docId 이상인 첫 항목을 찾아 found* 필드에 위치를 기록한다. (docId <= lastId 일 때만 호출)
+    private void seek(int docId) {
+        int pos = 0;
+        int id = 0;
+        while (pos < length) {
+            int start = pos;
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            int weightStart = pos;
+            do {
+                b = data[pos++];
+            } while (b < 0);
+
+            int prevId = id;
+            id += delta;
+            if (id >= docId) {
+                foundStart = start;
+                foundWeightStart = weightStart;
+                foundEnd = pos;
+                foundId = id;
+                foundPrevId = prevId;
+                return;
+            }
+        }
+        foundStart = foundWeightStart = foundEnd = length;
+        foundId = -1;
+        foundPrevId = id;
+    }
+
+    private void append(int docId, int weight) {
+        ensureCapacity(10); // varint 두 개 최대 10바이트
+        length = writeVarint(data, length, docId - (size == 0 ? 0 : lastId));
+        length = writeVarint(data, length, weight);
+        lastId = docId;
+        size++;
+    }
+
+    // [from, to) 바이트를 replacement 로 바꾼다. (뒤쪽 바이트는 한 번의 arraycopy 로 이동)
+    private void splice(int from, int to, byte[] replacement) {
+        int diff = replacement.length - (to - from);
+        ensureCapacity(Math.max(diff, 0));
+        System.arraycopy(data, to, data, to + diff, length - to);
+        System.arraycopy(replacement, 0, data, from, replacement.length);
+        length += diff;
+    }
+
+    private static byte[] varint(int value) {
+        byte[] buffer = new byte[5];
+        return Arrays.copyOf(buffer, writeVarint(buffer, 0, value));
+    }
+
+    private static byte[] concat(byte[] a, byte[] b, byte[] c) {
+        byte[] result = new byte[a.length + b.length + c.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        System.arraycopy(c, 0, result, a.length + b.length, c.length);
+        return result;
+    }
+
+    private static int writeVarint(byte[] target, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            target[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[offset++] = (byte) value;
+        return offset;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.tenco.blog_jpa_step3.user;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.sql.Timestamp;
@@ -10,6 +12,9 @@ import java.sql.Timestamp;
 @AllArgsConstructor
 @Table(name = "user_tb")
 @Entity
+// 2차 캐시 - 사용자 정보는 거의 바뀌지 않으므로 조회 결과를 프로세스 메모리에 보관 (영역 설정: application.conf)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Builder
 // @Data // 가능한 지양하자 - 권장 사항
 @Getter
@@ -17,7 +22,9 @@ import java.sql.Timestamp;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스 pooled 할당 (JDBC 배치 INSERT 가능)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Integer id; // 사용자 ID
 
     @Column(nullable = false, unique = true)
@@ -1,11 +1,12 @@
 package com.tenco.blog_jpa_step3.user;
 
+import com.tenco.blog_jpa_step3.commom.datasource.ReadYourWrites;
 import com.tenco.blog_jpa_step3.commom.errors.Exception400;
 import com.tenco.blog_jpa_step3.commom.errors.Exception401;
 import com.tenco.blog_jpa_step3.commom.errors.Exception404;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -45,8 +46,12 @@ public class UserService {
      * @return 인증된 사용자 객체
      * @throws Exception401 인증 실패 시 발생
      */
+    // 인증은 주 DB 에서 조회 - 방금 가입한 사용자는 아직 세션이 없어 읽기-자기-쓰기로 고정되지 않으므로
+    // 복제 DB 가 늦으면 첫 로그인이 401 로 실패할 수 있다.
+    @Transactional(readOnly = true)
     public User signIn(UserDTO.LoginDTO reqDTO){
-        User sessionUser = userJPARepository.findByUsernameAndPassword(reqDTO.getUsername(), reqDTO.getPassword())
+        User sessionUser = ReadYourWrites.readFromPrimary(() ->
+                        userJPARepository.findByUsernameAndPassword(reqDTO.getUsername(), reqDTO.getPassword()))
                 .orElseThrow(() -> new Exception401("인증되지 않았습니다"));
         return sessionUser;
     }
@@ -58,6 +63,9 @@ public class UserService {
      * @return 조회된 사용자 객체
      * @throws Exception404 사용자를 찾을 수 없는 경우 발생
      */
+    // 읽기 전용 트랜잭션: FlushMode.MANUAL + 읽기 전용 엔티티로 로딩 (dirty checking 스냅샷 / 커밋 시 flush 없음)
+    // 반환된 User 는 수정해도 DB 에 반영되지 않는다. 수정은 updateUser 에서 다시 조회하여 처리
+    @Transactional(readOnly = true)
     public User readUser(int id){
         User user = userJPARepository.findById(id)
                 .orElseThrow(() -> new Exception404("회원정보를 찾을 수 없습니다"));
@@ -1,17 +1,34 @@
 -- 사용자 데이터 삽입
-INSERT INTO user_tb(username, password, email, role, created_at) VALUES('길동', '1234', 'a@nate.com', 'USER', NOW());
-INSERT INTO user_tb(username, password, email, role, created_at) VALUES('둘리', '1234', 'b@nate.com', 'USER', NOW());
-INSERT INTO user_tb(username, password, email, role, created_at) VALUES('마이콜', '1234', 'c@nate.com', 'ADMIN', NOW());
+INSERT INTO user_tb(id, username, password, email, role, created_at) VALUES(1, '길동', '1234', 'a@nate.com', 'USER', NOW());
+INSERT INTO user_tb(id, username, password, email, role, created_at) VALUES(2, '둘리', '1234', 'b@nate.com', 'USER', NOW());
+INSERT INTO user_tb(id, username, password, email, role, created_at) VALUES(3, '마이콜', '1234', 'c@nate.com', 'ADMIN', NOW());
+
+-- 게시글 본문 데이터 삽입 (짧은 본문은 압축하지 않고 UTF-8 바이트 그대로 저장, original_length 는 UTF-8 바이트 수)
+INSERT INTO board_content_tb(id, data, compressed, original_length) VALUES(1, STRINGTOUTF8('내용1'), FALSE, 7);
+INSERT INTO board_content_tb(id, data, compressed, original_length) VALUES(2, STRINGTOUTF8('내용2'), FALSE, 7);
+INSERT INTO board_content_tb(id, data, compressed, original_length) VALUES(3, STRINGTOUTF8('내용3'), FALSE, 7);
+INSERT INTO board_content_tb(id, data, compressed, original_length) VALUES(4, STRINGTOUTF8('내용4'), FALSE, 7);
 
 -- 게시글 데이터 삽입
-INSERT INTO board_tb(title, content, user_id, created_at) VALUES('제목1', '내용1', 1, NOW());
-INSERT INTO board_tb(title, content, user_id, created_at) VALUES('제목2', '내용2', 1, NOW());
-INSERT INTO board_tb(title, content, user_id, created_at) VALUES('제목3', '내용3', 2, NOW());
-INSERT INTO board_tb(title, content, user_id, created_at) VALUES('제목4', '내용4', 3, NOW());
+INSERT INTO board_tb(id, title, content_id, user_id, created_at) VALUES(1, '제목1', 1, 1, NOW());
+INSERT INTO board_tb(id, title, content_id, user_id, created_at) VALUES(2, '제목2', 2, 1, NOW());
+INSERT INTO board_tb(id, title, content_id, user_id, created_at) VALUES(3, '제목3', 3, 2, NOW());
+INSERT INTO board_tb(id, title, content_id, user_id, created_at) VALUES(4, '제목4', 4, 3, NOW());
 
 -- 댓글 데이터 삽입
-INSERT INTO reply_tb(comment, board_id, user_id, created_at, status) VALUES('댓글1', 4, 1, NOW(), 'DELETED');
-INSERT INTO reply_tb(comment, board_id, user_id, created_at, status) VALUES('댓글1', 4, 1, NOW(), 'ACTIVE');
-INSERT INTO reply_tb(comment, board_id, user_id, created_at, status) VALUES('댓글2', 4, 1, NOW(), 'DELETED');
-INSERT INTO reply_tb(comment, board_id, user_id, created_at, status) VALUES('댓글3', 4, 2, NOW(), 'ACTIVE');
-INSERT INTO reply_tb(comment, board_id, user_id, created_at, status) VALUES('댓글4', 3, 2, NOW(), 'ACTIVE');
\ No newline at end of file
+INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES(1, '댓글1', 4, 1, NOW(), 'DELETED');
+INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES(2, '댓글1', 4, 1, NOW(), 'ACTIVE');
+INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES(3, '댓글2', 4, 1, NOW(), 'DELETED');
+INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES(4, '댓글3', 4, 2, NOW(), 'ACTIVE');
+INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES(5, '댓글4', 3, 2, NOW(), 'ACTIVE');
+
+-- ID 를 직접 넣었으므로 시퀀스를 기존 ID 보다 충분히 뒤에서 시작하도록 조정
+-- (pooled 방식은 시퀀스 값 v 를 받으면 v-49 ~ v 를 사용하므로 최대 ID + 50 보다 커야 한다)
+ALTER SEQUENCE user_seq RESTART WITH 1000;
+ALTER SEQUENCE board_seq RESTART WITH 1000;
+ALTER SEQUENCE board_content_seq RESTART WITH 1000;
+ALTER SEQUENCE reply_seq RESTART WITH 1000;
+
+-- 게시글의 댓글 수 / 마지막 댓글 시간 (비정규화 컬럼) 초기화
+UPDATE board_tb b SET reply_count = (SELECT COUNT(*) FROM reply_tb r WHERE r.board_id = b.id AND r.status = 'ACTIVE'),
+                      last_reply_at = (SELECT MAX(r.created_at) FROM reply_tb r WHERE r.board_id = b.id AND r.status = 'ACTIVE');
@@ -0,0 +1,24 @@
+-- =====================================================================
+-- 게시글 첨부파일 테이블 추가 스크립트
+-- ddl-auto: create 를 쓰지 않는 기존 데이터베이스에만 수동으로 한 번 실행합니다. (자동 실행 X)
+--
+-- 파일 내용은 DB 가 아니라 blog.attachment.dir 아래에 SHA-256 이름으로 저장되고,
+-- 이 테이블은 게시글과 파일 해시만 연결합니다. (같은 해시를 여러 행이 참조할 수 있음)
+-- =====================================================================
+
+-- H2 / MySQL 공통
+CREATE TABLE attachment_tb (
+    id           INT          NOT NULL PRIMARY KEY,
+    board_id     INT          NOT NULL,
+    hash         VARCHAR(64)  NOT NULL,
+    filename     VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    file_size    BIGINT       NOT NULL,
+    created_at   TIMESTAMP,
+    CONSTRAINT fk_attachment_board FOREIGN KEY (board_id) REFERENCES board_tb(id)
+);
+CREATE INDEX idx_attachment_board_id ON attachment_tb(board_id, id);
+CREATE INDEX idx_attachment_hash ON attachment_tb(hash);
+
+-- H2 (MySQL 은 pooled-sequence.sql 과 같이 attachment_seq 테이블로 만듭니다)
+CREATE SEQUENCE IF NOT EXISTS attachment_seq START WITH 1 INCREMENT BY 50;
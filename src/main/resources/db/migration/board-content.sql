@@ -0,0 +1,52 @@
+-- =====================================================================
+-- 게시글 본문 분리 스크립트 (board_tb.content -> board_content_tb)
+-- ddl-auto: create 를 쓰지 않는 기존 데이터베이스에만 수동으로 한 번 실행합니다. (자동 실행 X)
+--
+-- 기존 본문은 압축하지 않은 UTF-8 바이트(compressed = FALSE)로 옮깁니다.
+-- 애플리케이션은 압축/비압축 행을 모두 읽을 수 있고, 게시글을 수정할 때
+-- 길이가 BoardContent.COMPRESS_THRESHOLD 이상이면 압축된 형태로 다시 저장합니다.
+-- 본문 ID 는 게시글 ID 와 같은 값으로 옮깁니다.
+-- =====================================================================
+
+-- ---------------------------------------------------------------------
+-- H2
+-- ---------------------------------------------------------------------
+CREATE TABLE board_content_tb (
+    id              INT          NOT NULL PRIMARY KEY,
+    data            BLOB         NOT NULL,
+    compressed      BOOLEAN      NOT NULL,
+    original_length INT          NOT NULL
+);
+
+INSERT INTO board_content_tb(id, data, compressed, original_length)
+SELECT id, STRINGTOUTF8(COALESCE(content, '')), FALSE, OCTET_LENGTH(STRINGTOUTF8(COALESCE(content, '')))
+  FROM board_tb;
+
+ALTER TABLE board_tb ADD COLUMN content_id INT;
+UPDATE board_tb SET content_id = id;
+ALTER TABLE board_tb ADD CONSTRAINT uk_board_content UNIQUE (content_id);
+ALTER TABLE board_tb ADD CONSTRAINT fk_board_content FOREIGN KEY (content_id) REFERENCES board_content_tb(id);
+ALTER TABLE board_tb DROP COLUMN content;
+
+-- 최대 ID 를 확인한 뒤 START WITH 값을 (최대 ID + 50) 이상으로 넣습니다. (pooled-sequence.sql 참고)
+-- SELECT MAX(id) FROM board_content_tb;
+CREATE SEQUENCE IF NOT EXISTS board_content_seq START WITH 1000 INCREMENT BY 50;
+
+-- ---------------------------------------------------------------------
+-- MySQL
+-- ---------------------------------------------------------------------
+-- CREATE TABLE board_content_tb (
+--     id              INT        NOT NULL PRIMARY KEY,
+--     data            MEDIUMBLOB NOT NULL,
+--     compressed      BIT(1)     NOT NULL,
+--     original_length INT        NOT NULL
+-- );
+-- INSERT INTO board_content_tb(id, data, compressed, original_length)
+-- SELECT id, CONVERT(COALESCE(content, '') USING utf8mb4), 0, LENGTH(CONVERT(COALESCE(content, '') USING utf8mb4))
+--   FROM board_tb;
+-- ALTER TABLE board_tb ADD COLUMN content_id INT, ADD UNIQUE KEY uk_board_content (content_id);
+-- UPDATE board_tb SET content_id = id;
+-- ALTER TABLE board_tb ADD CONSTRAINT fk_board_content FOREIGN KEY (content_id) REFERENCES board_content_tb(id);
+-- ALTER TABLE board_tb DROP COLUMN content;
+-- CREATE TABLE board_content_seq (next_val BIGINT);
+-- INSERT INTO board_content_seq SELECT COALESCE(MAX(id), 0) + 50 FROM board_content_tb;
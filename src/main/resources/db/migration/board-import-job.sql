@@ -0,0 +1,19 @@
+-- =====================================================================
+-- 게시글 가져오기 작업 테이블 추가 스크립트
+-- ddl-auto: create 를 쓰지 않는 기존 데이터베이스에만 수동으로 한 번 실행합니다. (자동 실행 X)
+--
+-- 작업 ID(job_id)는 요청에서 받은 값을 그대로 쓰므로 시퀀스가 없습니다.
+-- committed_rows 는 배치와 같은 트랜잭션에서 갱신되어, 실패 후 같은 job_id 로 다시 보내면 그 다음 행부터 이어서 가져옵니다.
+-- =====================================================================
+
+-- H2 / MySQL 공통
+CREATE TABLE board_import_job_tb (
+    job_id         VARCHAR(100) NOT NULL PRIMARY KEY,
+    format         VARCHAR(255),
+    committed_rows BIGINT       NOT NULL,
+    imported_rows  BIGINT       NOT NULL,
+    skipped_rows   BIGINT       NOT NULL,
+    status         VARCHAR(255),
+    message        VARCHAR(255),
+    updated_at     TIMESTAMP
+);
@@ -0,0 +1,18 @@
+-- =====================================================================
+-- 게시글 버전 / 변경 시간 컬럼 추가 스크립트 (조건부 GET - ETag / Last-Modified)
+-- ddl-auto: create 를 쓰지 않는 기존 데이터베이스에만 수동으로 한 번 실행합니다. (자동 실행 X)
+--
+-- version 은 게시글 수정, 댓글 등록/삭제 시 UPDATE 문에서 1씩 증가합니다.
+-- 기존 행의 updated_at 은 작성 시간(또는 마지막 댓글 시간 중 늦은 값)으로 채웁니다.
+-- last_reply_at 을 읽으므로 reply-count.sql 을 먼저 실행합니다.
+-- =====================================================================
+
+-- H2 / MySQL 공통
+ALTER TABLE board_tb ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE board_tb ADD COLUMN updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP;
+
+UPDATE board_tb
+   SET updated_at = CASE
+                        WHEN last_reply_at IS NOT NULL AND last_reply_at > created_at THEN last_reply_at
+                        ELSE created_at
+                    END;
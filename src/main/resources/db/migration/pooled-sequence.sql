@@ -0,0 +1,32 @@
+-- =====================================================================
+-- IDENTITY(AUTO_INCREMENT) -> pooled 시퀀스 전환 스크립트
+-- ddl-auto: create 를 쓰지 않는 기존 데이터베이스에만 수동으로 한 번 실행합니다. (자동 실행 X)
+--
+-- 엔티티는 allocationSize = 50 의 pooled 방식을 사용합니다.
+-- 시퀀스에서 값 v 를 받으면 (v-49 ~ v) 구간을 메모리에서 나눠 쓰므로
+-- 시작 값은 반드시 "현재 최대 ID + 50" 이상이어야 기존 행과 충돌하지 않습니다.
+-- =====================================================================
+
+-- ---------------------------------------------------------------------
+-- H2
+-- ---------------------------------------------------------------------
+-- 최대 ID 를 확인한 뒤 START WITH 값을 (최대 ID + 50) 이상으로 넣습니다.
+-- SELECT MAX(id) FROM user_tb;  SELECT MAX(id) FROM board_tb;  SELECT MAX(id) FROM reply_tb;
+CREATE SEQUENCE IF NOT EXISTS user_seq  START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS board_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS reply_seq START WITH 1000 INCREMENT BY 50;
+
+-- ---------------------------------------------------------------------
+-- MySQL (시퀀스가 없으므로 Hibernate 가 *_seq 테이블의 next_val 로 흉내냅니다)
+-- ---------------------------------------------------------------------
+-- CREATE TABLE user_seq  (next_val BIGINT);
+-- CREATE TABLE board_seq (next_val BIGINT);
+-- CREATE TABLE reply_seq (next_val BIGINT);
+-- INSERT INTO user_seq  SELECT COALESCE(MAX(id), 0) + 50 FROM user_tb;
+-- INSERT INTO board_seq SELECT COALESCE(MAX(id), 0) + 50 FROM board_tb;
+-- INSERT INTO reply_seq SELECT COALESCE(MAX(id), 0) + 50 FROM reply_tb;
+--
+-- ID 는 이제 애플리케이션이 넣으므로 AUTO_INCREMENT 는 제거합니다.
+-- ALTER TABLE user_tb  MODIFY id INT NOT NULL;
+-- ALTER TABLE board_tb MODIFY id INT NOT NULL;
+-- ALTER TABLE reply_tb MODIFY id INT NOT NULL;
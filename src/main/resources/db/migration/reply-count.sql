@@ -0,0 +1,18 @@
+-- =====================================================================
+-- 게시글 댓글 수 / 마지막 댓글 시간 컬럼 + 댓글 페이징 인덱스 추가 스크립트
+-- ddl-auto: create 를 쓰지 않는 기존 데이터베이스에만 수동으로 한 번 실행합니다. (자동 실행 X)
+--
+-- reply_count / last_reply_at 은 댓글 등록/삭제 시 단일 UPDATE 문으로 증감되는 비정규화 컬럼입니다.
+-- 기존 행은 활성 댓글을 집계하여 채웁니다. (BoardReplyCountRepairJob 과 같은 값)
+-- board-version.sql 이 last_reply_at 을 읽으므로 이 스크립트를 먼저 실행합니다.
+-- =====================================================================
+
+-- H2 / MySQL 공통
+ALTER TABLE board_tb ADD COLUMN reply_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE board_tb ADD COLUMN last_reply_at TIMESTAMP NULL;
+
+-- 댓글 페이징 쿼리(board_id = ? AND status = ? AND id > ?)용 복합 인덱스
+CREATE INDEX idx_reply_board_status_id ON reply_tb(board_id, status, id);
+
+UPDATE board_tb b SET reply_count = (SELECT COUNT(*) FROM reply_tb r WHERE r.board_id = b.id AND r.status = 'ACTIVE'),
+                      last_reply_at = (SELECT MAX(r.created_at) FROM reply_tb r WHERE r.board_id = b.id AND r.status = 'ACTIVE');
@@ -0,0 +1,110 @@
+package com.tenco.blog_jpa_step3.attachment;
+
+import com.tenco.blog_jpa_step3.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * AttachmentControllerTest는 첨부파일 업로드(중복 제거)와 다운로드(Range / ETag)를 검증하는 클래스입니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AttachmentControllerTest {
+
+    private static final byte[] BODY = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private AttachmentJPARepository attachmentJPARepository;
+
+    @Autowired
+    private AttachmentStore attachmentStore;
+
+    @Test
+    @DisplayName("같은 내용의 파일은 한 번만 저장하고 Range / ETag 다운로드를 지원한다")
+    public void upload_and_range_download_test() throws Exception {
+        // given - data.sql 기준 1번 게시글 작성자
+        User owner = User.builder().id(1).username("길동").role("USER").build();
+
+        // when - 같은 내용의 파일 두 개 업로드
+        mvc.perform(multipart("/board/1/attachments")
+                        .file(new MockMultipartFile("files", "a.txt", "text/plain", BODY))
+                        .file(new MockMultipartFile("files", "b.txt", "text/plain", BODY))
+                        .sessionAttr("sessionUser", owner))
+                .andExpect(status().is3xxRedirection());
+
+        // then - 메타데이터는 두 건, 디스크 파일은 하나
+        List<Attachment> attachments = attachmentJPARepository.findAll().stream()
+                .filter(attachment -> "a.txt".equals(attachment.getFilename()) || "b.txt".equals(attachment.getFilename()))
+                .sorted(Comparator.comparing(Attachment::getId))
+                .toList();
+        assertEquals(2, attachments.size());
+        assertEquals(attachments.get(0).getHash(), attachments.get(1).getHash());
+        assertTrue(Files.isRegularFile(attachmentStore.path(attachments.get(0).getHash())));
+
+        String url = "/board/1/attachments/" + attachments.get(0).getId();
+        String etag = mvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().string("Cache-Control", "public, max-age=31536000, immutable"))
+                .andExpect(content().bytes(BODY))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // 범위 하나
+        mvc.perform(get(url).header("Range", "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 2-5/16"))
+                .andExpect(content().string("2345"));
+
+        // 만족할 수 없는 범위
+        mvc.perform(get(url).header("Range", "bytes=100-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */16"));
+
+        // If-Range 가 다르면 전체 응답
+        mvc.perform(get(url).header("Range", "bytes=2-5").header("If-Range", "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(BODY));
+
+        // 조건부 요청
+        mvc.perform(get(url).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // 다른 게시글 주소로는 받을 수 없음
+        mvc.perform(get("/board/2/attachments/" + attachments.get(0).getId()))
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    @DisplayName("게시글 작성자가 아니면 첨부할 수 없다")
+    public void upload_forbidden_test() throws Exception {
+        User other = User.builder().id(2).username("둘리").role("USER").build();
+
+        mvc.perform(multipart("/board/1/attachments")
+                        .file(new MockMultipartFile("files", "c.txt", "text/plain", BODY))
+                        .sessionAttr("sessionUser", other))
+                .andExpect(status().isOk());
+
+        assertTrue(attachmentJPARepository.findAll().stream().noneMatch(attachment -> "c.txt".equals(attachment.getFilename())));
+    }
+}
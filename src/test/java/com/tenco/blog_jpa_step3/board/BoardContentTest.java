@@ -0,0 +1,53 @@
+package com.tenco.blog_jpa_step3.board;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BoardContentTest는 게시글 본문의 압축 저장 규칙을 검증하는 클래스입니다.
+ */
+public class BoardContentTest {
+
+    @Test
+    @DisplayName("짧은 본문은 압축하지 않고 UTF-8 바이트 그대로 저장한다")
+    public void short_content_not_compressed_test() {
+        BoardContent content = BoardContent.of("내용1");
+
+        assertFalse(content.isCompressed());
+        assertArrayEquals("내용1".getBytes(StandardCharsets.UTF_8), content.getData());
+        assertEquals(7, content.getOriginalLength());
+    }
+
+    @Test
+    @DisplayName("긴 본문은 압축하여 저장하고 원래 문자열로 되돌린다")
+    public void long_content_compressed_test() {
+        String text = "가나다라마바사 아자차카타파하 ".repeat(200);
+
+        BoardContent content = BoardContent.of(text);
+
+        assertTrue(content.isCompressed());
+        assertTrue(content.getData().length < content.getOriginalLength());
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, content.getOriginalLength());
+        assertEquals(text, BoardContent.decode(content.getData(), true, content.getOriginalLength()));
+    }
+
+    @Test
+    @DisplayName("같은 본문으로 바꾸면 저장된 바이트를 그대로 둔다")
+    public void same_text_keeps_data_test() {
+        String text = "반복되는 본문 ".repeat(100);
+        BoardContent content = BoardContent.of(text);
+        byte[] data = content.getData();
+
+        content.setText(text);
+
+        assertSame(data, content.getData());
+    }
+}
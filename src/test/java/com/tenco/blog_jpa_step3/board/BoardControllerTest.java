@@ -0,0 +1,223 @@
+package com.tenco.blog_jpa_step3.board;
+
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
+import com.tenco.blog_jpa_step3.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * BoardControllerTest는 게시글 화면 요청 시 실행되는 SQL 개수를 검증하기 위한 클래스입니다.
+ * Hibernate Statistics 를 활성화하여 요청 한번에 준비된(prepare) JDBC 문장 수를 확인합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+public class BoardControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private BoardDetailCache boardDetailCache;
+
+    @Autowired
+    private PageCache pageCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        // 캐시가 비어 있는 상태(DB 조회)에서 측정합니다.
+        boardDetailCache.invalidateAll();
+        pageCache.invalidateAll();
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * 게시글 상세보기는 댓글 수와 상관없이
+     * 게시글+작성자 1번, 댓글+댓글 작성자 1번 총 2번의 SQL 로 끝나야 합니다.
+     * (data.sql 기준 4번 게시글: 활성 댓글 2개, 삭제된 댓글 2개)
+     */
+    @Test
+    @DisplayName("게시글 상세보기 SQL 실행 횟수 테스트")
+    public void detail_statement_count_test() throws Exception {
+        // when
+        mvc.perform(get("/board/4"))
+                .andExpect(status().isOk())
+                // 삭제된 댓글은 렌더링되지 않아야 합니다.
+                .andExpect(content().string(containsString("댓글3")))
+                .andExpect(content().string(not(containsString("댓글2"))))
+                // 요청별 SQL 통계 헤더 (SqlStatsFilter)
+                .andExpect(header().string("X-SQL-Count", "2"));
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount(), "상세보기는 SQL 2번으로 끝나야 합니다.");
+    }
+
+    /**
+     * 같은 게시글을 다시 조회하면 게시글 상세 캐시에서 응답하므로 SQL 이 실행되지 않아야 합니다.
+     */
+    @Test
+    @DisplayName("게시글 상세보기 캐시 적중 테스트")
+    public void detail_cache_hit_test() throws Exception {
+        // given
+        mvc.perform(get("/board/4")).andExpect(status().isOk());
+        statistics.clear();
+
+        // 페이지 캐시를 비워서 게시글 상세 캐시만 확인
+        pageCache.invalidateAll();
+
+        // when
+        mvc.perform(get("/board/4"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("댓글3")));
+
+        // then
+        assertEquals(0, statistics.getPrepareStatementCount(), "캐시 적중 시 SQL 이 실행되지 않아야 합니다.");
+    }
+
+    /**
+     * 조건부 요청의 ETag 가 같으면 게시글/댓글을 로딩하지 않고 304 로 응답해야 합니다.
+     * 캐시가 비어 있어도 버전 컬럼만 읽는 쿼리 1번으로 끝나야 합니다.
+     */
+    @Test
+    @DisplayName("게시글 상세보기 조건부 요청 304 테스트")
+    public void detail_not_modified_test() throws Exception {
+        // given
+        String etag = mvc.perform(get("/board/4"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+        boardDetailCache.invalidateAll();
+        pageCache.invalidateAll();
+        statistics.clear();
+
+        // when
+        mvc.perform(get("/board/4").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount(), "304 응답은 버전 조회 1번으로 끝나야 합니다.");
+    }
+
+    /**
+     * 작성자 / 비로그인 사용자는 화면이 다르므로 같은 ETag 를 공유하면 안 됩니다.
+     */
+    @Test
+    @DisplayName("게시글 상세보기 ETag 사용자 구분 테스트")
+    public void detail_etag_per_viewer_test() throws Exception {
+        // given - data.sql 기준 4번 게시글 작성자
+        User owner = User.builder().id(3).username("마이콜").role("ADMIN").build();
+
+        // when
+        String anonymous = mvc.perform(get("/board/4"))
+                .andReturn().getResponse().getHeader("ETag");
+        String ownerEtag = mvc.perform(get("/board/4").sessionAttr("sessionUser", owner))
+                .andExpect(header().string("Cache-Control", containsString("private")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // then
+        assertNotEquals(anonymous, ownerEtag);
+        mvc.perform(get("/board/4").sessionAttr("sessionUser", owner).header("If-None-Match", anonymous))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * 메인 목록도 ETag 가 같으면 렌더링 없이 304 로 응답해야 합니다.
+     */
+    @Test
+    @DisplayName("메인 목록 조건부 요청 304 테스트")
+    public void index_not_modified_test() throws Exception {
+        String etag = mvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mvc.perform(get("/").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    /**
+     * 비로그인 사용자는 두번째 요청부터 페이지 캐시(gzip)에서 응답하고, 로그인 사용자는 페이지 캐시를 거치지 않아야 합니다.
+     */
+    @Test
+    @DisplayName("비로그인 사용자 페이지 캐시 테스트")
+    public void anonymous_page_cache_test() throws Exception {
+        // given
+        mvc.perform(get("/board/4"))
+                .andExpect(header().string("X-Page-Cache", "MISS"));
+        statistics.clear();
+
+        // when & then - 압축을 받지 않는 클라이언트에게는 풀어서 응답
+        mvc.perform(get("/board/4"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Page-Cache", "HIT"))
+                .andExpect(content().string(containsString("댓글3")));
+        mvc.perform(get("/board/4").header("Accept-Encoding", "gzip"))
+                .andExpect(header().string("Content-Encoding", "gzip"));
+        assertEquals(0, statistics.getPrepareStatementCount(), "페이지 캐시 적중 시 SQL 이 실행되지 않아야 합니다.");
+
+        // 로그인 사용자는 작성자 버튼이 보여야 하므로 캐시를 사용하지 않음
+        User owner = User.builder().id(3).username("마이콜").role("ADMIN").build();
+        mvc.perform(get("/board/4").sessionAttr("sessionUser", owner))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Page-Cache"));
+    }
+
+    /**
+     * 게시글 태그를 무효화하면 그 게시글의 페이지만 제거되어야 합니다.
+     */
+    @Test
+    @DisplayName("페이지 캐시 태그 무효화 테스트")
+    public void page_cache_invalidation_test() throws Exception {
+        // given
+        mvc.perform(get("/board/4"));
+        mvc.perform(get("/board/3"));
+
+        // when
+        pageCache.invalidate(BoardPageTags.board(4));
+
+        // then
+        mvc.perform(get("/board/4")).andExpect(header().string("X-Page-Cache", "MISS"));
+        mvc.perform(get("/board/3")).andExpect(header().string("X-Page-Cache", "HIT"));
+    }
+
+    /**
+     * 검색어의 특수 문자(&, #, +, %)는 페이지 링크에서 URL 인코딩되어야 하고,
+     * 아주 큰 페이지 번호는 오류 없이 빈 결과를 반환해야 합니다.
+     */
+    @Test
+    @DisplayName("게시글 검색 페이지 링크 / 큰 페이지 번호 테스트")
+    public void search_paging_test() throws Exception {
+        mvc.perform(get("/board/search").param("q", "제목 & #1+%").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "/board/search?q=%EC%A0%9C%EB%AA%A9+%26+%231%2B%25&amp;page=0")));
+
+        mvc.perform(get("/board/search").param("q", "제목").param("page", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("검색 결과가 없습니다.")));
+    }
+}
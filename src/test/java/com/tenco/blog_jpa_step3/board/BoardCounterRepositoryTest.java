@@ -0,0 +1,83 @@
+package com.tenco.blog_jpa_step3.board;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BoardCounterRepositoryTest는 댓글 수 / 버전 UPDATE 가 바뀐 게시글 한 건만 2차 캐시에서 제거하는지 검증하는 클래스입니다.
+ * 게시글 값이 다른 테스트에 섞이지 않도록 별도의 H2 를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:counter_test;MODE=MySQL")
+public class BoardCounterRepositoryTest {
+
+    @Autowired
+    private BoardCounterRepository boardCounterRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        // 게시글 1, 2 를 2차 캐시에 올려 둔다.
+        emf.getCache().evictAll();
+        transactionTemplate.executeWithoutResult(status -> {
+            em.find(Board.class, 1);
+            em.find(Board.class, 2);
+        });
+        assertTrue(emf.getCache().contains(Board.class, 1));
+        assertTrue(emf.getCache().contains(Board.class, 2));
+    }
+
+    @Test
+    @DisplayName("댓글 수 증가는 해당 게시글만 2차 캐시에서 제거하고, 다시 읽으면 바뀐 값이 보인다")
+    public void increment_evicts_only_that_board_test() {
+        // given
+        Board before = transactionTemplate.execute(status -> em.find(Board.class, 1));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> boardCounterRepository.incrementReplyCount(1));
+
+        // then
+        assertFalse(emf.getCache().contains(Board.class, 1));
+        assertTrue(emf.getCache().contains(Board.class, 2));
+        Board after = transactionTemplate.execute(status -> em.find(Board.class, 1));
+        assertEquals(before.getReplyCount() + 1, after.getReplyCount());
+        assertEquals(before.getVersion() + 1, after.getVersion());
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 수정된 게시글도 커밋 후 옛날 버전으로 2차 캐시에 남지 않는다")
+    public void bump_version_with_dirty_entity_test() {
+        // given
+        long version = transactionTemplate.execute(status -> em.find(Board.class, 2)).getVersion();
+
+        // when - 제목 변경(커밋 시 flush) + 버전 증가
+        transactionTemplate.executeWithoutResult(status -> {
+            Board board = em.find(Board.class, 2);
+            board.setTitle("제목2 수정");
+            boardCounterRepository.bumpVersion(2);
+        });
+
+        // then
+        assertTrue(emf.getCache().contains(Board.class, 1));
+        Board after = transactionTemplate.execute(status -> em.find(Board.class, 2));
+        assertEquals("제목2 수정", after.getTitle());
+        assertEquals(version + 1, after.getVersion());
+    }
+}
@@ -0,0 +1,139 @@
+package com.tenco.blog_jpa_step3.board;
+
+import com.tenco.blog_jpa_step3.reply.ReplyDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BoardDetailCacheTest는 게시글 상세 캐시의 동시 캐시 미스 합류(single-flight)와 로딩 실패 처리를 검증하는 클래스입니다.
+ */
+public class BoardDetailCacheTest {
+
+    private static BoardDTO.SnapshotDTO snapshot(int boardId) {
+        Board board = Board.builder().id(boardId).title("제목" + boardId).content("내용" + boardId).build();
+        return new BoardDTO.SnapshotDTO(board, new ReplyDTO.PageDTO(List.of(), 10), "");
+    }
+
+    @Test
+    @DisplayName("같은 게시글에 동시에 캐시 미스가 나면 로딩은 한 번만 하고 결과를 함께 받는다")
+    public void coalesce_test() throws Exception {
+        BoardDetailCache cache = new BoardDetailCache(100);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoardDTO.SnapshotDTO loaded = snapshot(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<BoardDTO.SnapshotDTO> first = executor.submit(() -> cache.get(1, id -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return loaded;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // 로딩 중에 들어온 요청들 - loader 가 실행되면 안 된다.
+            Future<BoardDTO.SnapshotDTO> second = executor.submit(() -> cache.get(1, id -> {
+                loads.incrementAndGet();
+                return snapshot(1);
+            }));
+            Future<BoardDTO.SnapshotDTO> third = executor.submit(() -> cache.get(1, id -> {
+                loads.incrementAndGet();
+                return snapshot(1);
+            }));
+            waitUntil(() -> ((Long) cache.stats().get("coalescedCount")) == 2L);
+            release.countDown();
+
+            assertSame(loaded, first.get(5, TimeUnit.SECONDS));
+            assertSame(loaded, second.get(5, TimeUnit.SECONDS));
+            assertSame(loaded, third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+            assertEquals(1L, cache.stats().get("loadCount"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("로딩 중 Error 가 나도 기다리던 요청은 같은 오류를 받고, 다음 요청은 다시 로딩한다")
+    public void loader_error_test() throws Exception {
+        BoardDetailCache cache = new BoardDetailCache(100);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<BoardDTO.SnapshotDTO> first = executor.submit(() -> cache.get(1, id -> {
+                loading.countDown();
+                await(release);
+                throw new StackOverflowError("loader");
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<BoardDTO.SnapshotDTO> joined = executor.submit(() -> cache.get(1, id -> snapshot(1)));
+            waitUntil(() -> ((Long) cache.stats().get("coalescedCount")) == 1L);
+            release.countDown();
+
+            // 두 요청 모두 끝나야 한다. (영원히 기다리지 않음)
+            Throwable firstError = assertThrows(ExecutionException.class,
+                    () -> first.get(5, TimeUnit.SECONDS)).getCause();
+            Throwable joinedError = assertThrows(ExecutionException.class,
+                    () -> joined.get(5, TimeUnit.SECONDS)).getCause();
+            assertTrue(firstError instanceof StackOverflowError);
+            assertTrue(joinedError instanceof StackOverflowError);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 실패한 결과는 캐시에 남지 않는다.
+        assertNull(cache.peek(1));
+        BoardDTO.SnapshotDTO reloaded = snapshot(1);
+        assertSame(reloaded, cache.get(1, id -> reloaded));
+    }
+
+    @Test
+    @DisplayName("로딩 중 RuntimeException 은 호출한 요청에 그대로 전달된다")
+    public void loader_exception_test() {
+        BoardDetailCache cache = new BoardDetailCache(100);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> cache.get(1, id -> {
+                    throw new IllegalStateException("loader");
+                }));
+
+        assertEquals("loader", e.getMessage());
+        assertNull(cache.peek(1));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,53 @@
+package com.tenco.blog_jpa_step3.board;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * BoardNativeRepositoryTest는 네이티브 저장이 JPA 와 같은 ID 생성기를 사용하는지 검증하는 클래스입니다.
+ * 테스트가 끝나면 롤백합니다.
+ */
+@SpringBootTest
+@Transactional
+public class BoardNativeRepositoryTest {
+
+    @Autowired
+    private BoardNativeRepository boardNativeRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("네이티브 저장은 pooled 구간을 나눠 쓰고 JPA 저장과 ID 가 겹치지 않는다")
+    public void save_uses_pooled_ids_test() {
+        // when
+        boardNativeRepository.save("네이티브 저장 1", "내용");
+        boardNativeRepository.save("네이티브 저장 2", "내용");
+        Board jpaBoard = boardRepository.save(Board.builder().title("JPA 저장").content("내용").build());
+        em.flush();
+
+        // then - 행마다 구간(50개)을 소비하지 않고 연속된 ID 를 받는다.
+        List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM board_tb WHERE title LIKE '네이티브 저장%' ORDER BY id", Integer.class);
+        assertEquals(2, ids.size());
+        assertEquals(ids.get(0) + 1, ids.get(1));
+        assertFalse(ids.contains(jpaBoard.getId()));
+        assertEquals("내용", boardNativeRepository.findById(ids.get(0)).getContent());
+    }
+}
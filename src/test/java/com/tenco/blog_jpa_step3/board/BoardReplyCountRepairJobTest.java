@@ -0,0 +1,52 @@
+package com.tenco.blog_jpa_step3.board;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * BoardReplyCountRepairJobTest는 댓글 수 보정 작업이 어긋난 게시글만 고치고 버전을 올리는지 검증하는 클래스입니다.
+ * 게시글 값이 다른 테스트에 섞이지 않도록 별도의 H2 를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:counter_test;MODE=MySQL")
+public class BoardReplyCountRepairJobTest {
+
+    @Autowired
+    private BoardReplyCountRepairJob boardReplyCountRepairJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("어긋난 게시글만 고치고 version 을 올리며, 다시 실행하면 고칠 게시글이 없다")
+    public void repair_test() {
+        // given - 다른 테스트가 어긋나게 했을 수도 있으므로 먼저 맞춰 둔 뒤, 게시글 3(활성 댓글 1개)만 어긋나게 만든다
+        boardReplyCountRepairJob.repair();
+        jdbcTemplate.update("UPDATE board_tb SET reply_count = 7, last_reply_at = NULL WHERE id = 3");
+        long version = ((Number) board(3).get("version")).longValue();
+        long untouchedVersion = ((Number) board(1).get("version")).longValue();
+
+        // when
+        int fixed = boardReplyCountRepairJob.repair();
+
+        // then
+        assertEquals(1, fixed);
+        Map<String, Object> repaired = board(3);
+        assertEquals(1, ((Number) repaired.get("reply_count")).intValue());
+        assertNotNull(repaired.get("last_reply_at"));
+        assertEquals(version + 1, ((Number) repaired.get("version")).longValue());
+        assertEquals(untouchedVersion, ((Number) board(1).get("version")).longValue());
+        assertEquals(0, boardReplyCountRepairJob.repair());
+    }
+
+    private Map<String, Object> board(int id) {
+        return jdbcTemplate.queryForMap("SELECT reply_count, last_reply_at, version FROM board_tb WHERE id = ?", id);
+    }
+}
@@ -0,0 +1,118 @@
+package com.tenco.blog_jpa_step3.board;
+
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * BoardViewCounterTest는 조회수 write-behind 카운터가 증가분을 잃지 않고 DB 에 반영하는지 검증하는 클래스입니다.
+ * 스케줄러가 쓰는 카운터와 섞이지 않도록 테스트용 카운터를 따로 만들어 사용합니다.
+ */
+@SpringBootTest
+public class BoardViewCounterTest {
+
+    private static final int BOARD_ID = 2;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private PageCache pageCache;
+
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private JdbcTemplate jdbcTemplate;
+    private BoardViewCounter counter;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (failing.get()) {
+                    throw new DataAccessResourceFailureException("테스트용 DB 장애");
+                }
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        counter = new BoardViewCounter(jdbcTemplate, emf, pageCache);
+    }
+
+    @Test
+    @DisplayName("flush 와 동시에 증가시켜도 증가분이 사라지지 않는다")
+    public void concurrent_increment_and_flush_test() throws Exception {
+        long before = views();
+        int threads = 8;
+        int perThread = 5_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        counter.increment(BOARD_ID);
+                    }
+                }));
+            }
+            // 증가와 반영(맵 정리 포함)을 계속 겹치게 한다.
+            while (futures.stream().anyMatch(future -> !future.isDone())) {
+                counter.flush();
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        counter.flush();
+
+        assertEquals(before + (long) threads * perThread, views());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 다음 주기에 그 사이 증가분과 합쳐서 반영한다")
+    public void retry_after_failure_test() {
+        long before = views();
+
+        for (int i = 0; i < 5; i++) {
+            counter.increment(BOARD_ID);
+        }
+        failing.set(true);
+        counter.flush();
+        assertEquals(before, views());
+
+        counter.increment(BOARD_ID);
+        counter.increment(BOARD_ID);
+        failing.set(false);
+        counter.flush();
+        assertEquals(before + 7, views());
+
+        // 반영할 것이 없으면 아무 것도 바뀌지 않는다.
+        counter.flush();
+        assertEquals(before + 7, views());
+    }
+
+    private long views() {
+        return jdbcTemplate.queryForObject("SELECT views FROM board_tb WHERE id = ?", Long.class, BOARD_ID);
+    }
+}
@@ -0,0 +1,63 @@
+package com.tenco.blog_jpa_step3.commom.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * PageCacheTest는 렌더링 도중 무효화가 있을 때의 저장 여부와 페이지 만료(TTL)를 검증하는 클래스입니다.
+ */
+public class PageCacheTest {
+
+    private static PageCache.Page page() {
+        return new PageCache.Page(new byte[10], 10, "text/html", null, -1, null, null);
+    }
+
+    @Test
+    @DisplayName("렌더링 도중 관계없는 태그가 무효화되어도 페이지를 저장한다")
+    public void unrelated_invalidation_test() {
+        PageCache pageCache = new PageCache(true, 1024 * 1024, 60);
+
+        long start = pageCache.epoch();
+        pageCache.invalidate("views:9"); // 예: 다른 게시글의 조회수 반영
+        pageCache.put("/board/3", page(), Set.of("board:3"), start);
+
+        assertNotNull(pageCache.get("/board/3"));
+    }
+
+    @Test
+    @DisplayName("렌더링 도중 그 페이지의 태그가 무효화되면 저장하지 않는다")
+    public void related_invalidation_test() {
+        PageCache pageCache = new PageCache(true, 1024 * 1024, 60);
+
+        long start = pageCache.epoch();
+        pageCache.invalidate("board:3");
+        pageCache.put("/board/3", page(), Set.of("board:3", "list"), start);
+        assertNull(pageCache.get("/board/3"));
+
+        start = pageCache.epoch();
+        pageCache.invalidateAll();
+        pageCache.put("/board/3", page(), Set.of("board:3"), start);
+        assertNull(pageCache.get("/board/3"));
+
+        assertEquals(2L, pageCache.stats().get("staleDropCount"));
+    }
+
+    @Test
+    @DisplayName("저장된 페이지도 태그 무효화와 TTL 만료로 제거된다")
+    public void invalidate_and_ttl_test() {
+        PageCache pageCache = new PageCache(true, 1024 * 1024, 60);
+        pageCache.put("/board/3", page(), Set.of("board:3"), pageCache.epoch());
+        pageCache.invalidate("board:3");
+        assertNull(pageCache.get("/board/3"));
+
+        PageCache expiring = new PageCache(true, 1024 * 1024, 0);
+        expiring.put("/board/3", page(), Set.of("board:3"), expiring.epoch());
+        assertNull(expiring.get("/board/3"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.tenco.blog_jpa_step3.commom.datasource;
+
+import com.tenco.blog_jpa_step3.board.BoardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ReplicationRoutingDataSourceTest는 H2 두 개(주 / 복제)로 트랜잭션별 데이터소스 라우팅을 검증하는 클래스입니다.
+ * 복제 H2 는 주 H2 테이블을 READONLY 링크 테이블로 연결하여 같은 데이터를 읽습니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary_test;MODE=MySQL",
+        "spring.jpa.open-in-view=false",
+        "blog.datasource.replica.url=jdbc:h2:mem:replica_test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "blog.datasource.replica.h2-link-primary=true"
+})
+public class ReplicationRoutingDataSourceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BoardService boardService;
+
+    @AfterEach
+    public void tearDown() {
+        ReadYourWrites.end();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제 DB 를 사용한다")
+    public void read_only_routes_to_replica_test() {
+        assertTrue(connectionUrl(true).contains("replica_test"));
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 주 DB 를 사용한다")
+    public void read_write_routes_to_primary_test() {
+        ReadYourWrites.begin(false);
+        assertTrue(connectionUrl(false).contains("primary_test"));
+        // 쓰기가 있었던 요청으로 기록되어야 이후 읽기를 주 DB 로 고정할 수 있다.
+        assertTrue(ReadYourWrites.end());
+    }
+
+    @Test
+    @DisplayName("쓰기 직후(read-your-writes 구간)에는 읽기 전용 트랜잭션도 주 DB 를 사용한다")
+    public void pinned_read_routes_to_primary_test() {
+        ReadYourWrites.begin(true);
+        assertTrue(connectionUrl(true).contains("primary_test"));
+        assertFalse(ReadYourWrites.end());
+    }
+
+    @Test
+    @DisplayName("readFromPrimary 안의 읽기 전용 트랜잭션은 세션 없이도 주 DB 를 사용한다")
+    public void read_from_primary_test() {
+        assertTrue(ReadYourWrites.readFromPrimary(() -> connectionUrl(true)).contains("primary_test"));
+        // 범위를 벗어나면 다시 복제 DB
+        assertTrue(connectionUrl(true).contains("replica_test"));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 서비스 메서드는 복제 DB(링크 테이블)에서 데이터를 읽는다")
+    public void service_read_on_replica_test() {
+        assertFalse(boardService.getBoardPage(null, null).getBoardList().isEmpty());
+    }
+
+    private String connectionUrl(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getURL()));
+    }
+}
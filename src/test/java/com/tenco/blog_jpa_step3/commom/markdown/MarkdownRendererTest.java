@@ -0,0 +1,42 @@
+package com.tenco.blog_jpa_step3.commom.markdown;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MarkdownRendererTest는 본문 Markdown 변환 결과의 안전 처리와 캐시 재사용을 검증하는 클래스입니다.
+ */
+public class MarkdownRendererTest {
+
+    @Test
+    @DisplayName("본문에 쓴 HTML 태그와 javascript 링크는 실행되지 않도록 처리한다")
+    public void render_sanitize_test() {
+        MarkdownRenderer renderer = new MarkdownRenderer(1024 * 1024);
+
+        String html = renderer.render("**굵게** <script>alert(1)</script> [링크](javascript:alert(1))");
+
+        assertTrue(html.contains("<strong>굵게</strong>"));
+        assertTrue(html.contains("&lt;script&gt;"));
+        assertFalse(html.contains("<script>"));
+        assertFalse(html.contains("javascript:"));
+    }
+
+    @Test
+    @DisplayName("같은 본문은 한 번만 변환하고 캐시된 HTML 을 재사용한다")
+    public void render_cached_test() {
+        MarkdownRenderer renderer = new MarkdownRenderer(1024 * 1024);
+
+        String first = renderer.renderCached("# 제목\n\n내용");
+        String second = renderer.renderCached("# 제목\n\n" + "내용");
+        renderer.renderCached("# 제목\n\n내용 수정");
+
+        assertSame(first, second);
+        assertEquals(2L, renderer.stats().get("renderCount"));
+        assertEquals(1L, renderer.stats().get("hitCount"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.tenco.blog_jpa_step3.commom.view;
+
+import com.tenco.blog_jpa_step3.commom.cache.PageCache;
+import com.tenco.blog_jpa_step3.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * PrecompiledMustacheViewResolverTest는 운영 렌더링 모드(미리 컴파일, 필요한 이름만 노출)를 검증하는 클래스입니다.
+ * 세션/요청 속성 노출을 끈 상태에서도 템플릿에 나오는 이름은 그대로 렌더링되어야 합니다.
+ */
+@SpringBootTest(properties = {
+        "blog.view.precompiled=true",
+        "spring.mustache.servlet.expose-session-attributes=false",
+        "spring.mustache.servlet.expose-request-attributes=false"
+})
+@AutoConfigureMockMvc
+public class PrecompiledMustacheViewResolverTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private PrecompiledMustacheViewResolver resolver;
+
+    @Autowired
+    private PageCache pageCache;
+
+    @BeforeEach
+    public void setUp() {
+        pageCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("시작 시 템플릿과 부분 템플릿의 모델 이름을 미리 계산한다")
+    public void model_keys_test() {
+        assertNotNull(resolver.getTemplate("board/detail"));
+        Set<String> keys = resolver.getModelKeys("board/detail");
+        // 본문 + 부분 템플릿(layout/header, board/reply-list)에 나오는 이름
+        assertTrue(keys.containsAll(Set.of("isOwner", "board", "replies", "replyPage", "boardId", "sessionUser")), keys.toString());
+    }
+
+    @Test
+    @DisplayName("요청 속성으로 넘긴 게시글 상세가 렌더링된다")
+    public void detail_render_test() throws Exception {
+        mvc.perform(get("/board/4"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/html;charset=UTF-8"))
+                .andExpect(content().string(containsString("댓글3")))
+                .andExpect(content().string(containsString("로그인")));
+    }
+
+    @Test
+    @DisplayName("세션의 sessionUser 는 템플릿이 사용하므로 노출된다")
+    public void session_user_render_test() throws Exception {
+        User user = User.builder().id(1).username("길동").role("USER").build();
+        mvc.perform(get("/").sessionAttr("sessionUser", user))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("로그아웃")))
+                .andExpect(content().string(not(containsString("회원가입"))));
+    }
+}
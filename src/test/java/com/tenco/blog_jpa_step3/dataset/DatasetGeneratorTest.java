@@ -0,0 +1,120 @@
+package com.tenco.blog_jpa_step3.dataset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DatasetGeneratorTest는 가상 데이터 생성기의 Zipf 분포, 같은 seed 에서의 재현성, 비정규화 컬럼 계산을 검증하는 클래스입니다.
+ * 생성한 데이터가 다른 테스트에 섞이지 않도록 별도의 H2 를 사용하고, 규모를 작게 줄여 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dataset_test;MODE=MySQL",
+        "blog.dataset.batch-size=100",
+        "blog.dataset.max-replies-per-board=100"
+})
+public class DatasetGeneratorTest {
+
+    private static final int BOARDS = 300;
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Zipf 표본은 1 ~ n 범위이고 k 번째 값의 빈도는 1 / k^exponent 에 비례한다")
+    public void zipf_distribution_test() {
+        // given
+        ZipfSampler sampler = new ZipfSampler(100, 1.0);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] counts = new int[101];
+
+        // when
+        for (int i = 0; i < 200_000; i++) {
+            int k = sampler.sample(random);
+            assertTrue(k >= 1 && k <= 100, "범위를 벗어난 표본: " + k);
+            counts[k]++;
+        }
+
+        // then - exponent 1 이면 1 번은 2 번의 약 2배, 4 번의 약 4배
+        assertEquals(2.0, (double) counts[1] / counts[2], 0.1);
+        assertEquals(4.0, (double) counts[1] / counts[4], 0.3);
+    }
+
+    @Test
+    @DisplayName("같은 seed 로 만든 Zipf 표본은 항상 같다")
+    public void zipf_deterministic_test() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1.8);
+        SplittableRandom a = new SplittableRandom(42);
+        SplittableRandom b = new SplittableRandom(42);
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(sampler.sample(a), sampler.sample(b));
+        }
+    }
+
+    @Test
+    @DisplayName("생성된 댓글 수는 한쪽으로 치우치고, 같은 seed 로 다시 생성하면 같은 데이터가 만들어진다")
+    public void generate_test() {
+        // given
+        int firstBase = maxId("board_tb");
+
+        // when
+        datasetGenerator.generate(BOARDS);
+        int secondBase = maxId("board_tb");
+        datasetGenerator.generate(BOARDS);
+
+        // then - 게시글 수
+        assertEquals(firstBase + BOARDS, secondBase);
+        assertEquals(secondBase + BOARDS, maxId("board_tb"));
+
+        // 비정규화 컬럼(댓글 수 / 마지막 댓글 시간)은 실제 활성 댓글과 일치한다
+        Integer mismatched = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM board_tb b WHERE b.id > ? AND (b.reply_count <> " +
+                        "(SELECT COUNT(*) FROM reply_tb r WHERE r.board_id = b.id AND r.status = 'ACTIVE') " +
+                        "OR NOT (b.last_reply_at IS NOT DISTINCT FROM " +
+                        "(SELECT MAX(r.created_at) FROM reply_tb r WHERE r.board_id = b.id AND r.status = 'ACTIVE')))",
+                Integer.class, firstBase);
+        assertEquals(0, mismatched);
+
+        // Zipf 분포 - 절반 가까운 게시글은 댓글이 없고, 소수의 게시글에 댓글이 몰린다
+        List<Integer> replies = jdbcTemplate.queryForList(
+                "SELECT (SELECT COUNT(*) FROM reply_tb r WHERE r.board_id = b.id) FROM board_tb b " +
+                        "WHERE b.id > ? AND b.id <= ? ORDER BY b.id", Integer.class, firstBase, secondBase);
+        long empty = replies.stream().filter(count -> count == 0).count();
+        int max = replies.stream().mapToInt(Integer::intValue).max().orElse(0);
+        double mean = replies.stream().mapToInt(Integer::intValue).average().orElse(0);
+        assertTrue(empty > BOARDS * 0.4, "댓글 없는 게시글 수: " + empty);
+        assertTrue(max > mean * 3, "최대 " + max + ", 평균 " + mean);
+
+        // 작성자도 Zipf 분포 - 가장 많이 쓴 사용자가 고르게 나눴을 때보다 훨씬 많이 쓴다 (사용자 10명)
+        Integer topAuthor = jdbcTemplate.queryForObject(
+                "SELECT MAX(cnt) FROM (SELECT COUNT(*) cnt FROM board_tb WHERE id > ? AND id <= ? GROUP BY user_id) t",
+                Integer.class, firstBase, secondBase);
+        assertTrue(topAuthor > BOARDS / 10 * 2, "가장 많이 쓴 사용자의 글 수: " + topAuthor);
+
+        // 재현성 - 두 번째 생성분은 ID 만 밀렸을 뿐 제목 / 댓글 수 / 조회수가 첫 번째와 같다
+        assertEquals(snapshot(firstBase, secondBase), snapshot(secondBase, secondBase + BOARDS));
+    }
+
+    private List<Map<String, Object>> snapshot(int fromExclusive, int toInclusive) {
+        return jdbcTemplate.queryForList(
+                "SELECT title, reply_count, views FROM board_tb WHERE id > ? AND id <= ? ORDER BY id",
+                fromExclusive, toInclusive);
+    }
+
+    private int maxId(String table) {
+        Integer max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Integer.class);
+        return max == null ? 0 : max;
+    }
+}
@@ -0,0 +1,103 @@
+package com.tenco.blog_jpa_step3.exports;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenco.blog_jpa_step3.board.Board;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BoardExportServiceTest는 게시글 내보내기가 모든 게시글(작성자가 없는 게시글 포함)을 한 행씩 쓰는지 검증하는 클래스입니다.
+ * 테스트용 게시글이 다른 테스트에 섞이지 않도록 별도의 H2 를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:export_test;MODE=MySQL")
+public class BoardExportServiceTest {
+
+    @Autowired
+    private BoardExportService boardExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    private int orphanId;
+
+    @BeforeEach
+    public void setUp() {
+        // 작성자가 없는 게시글 (탈퇴한 사용자 등)
+        orphanId = transactionTemplate.execute(status -> {
+            Board board = Board.builder()
+                    .title("작성자 없는 글, \"인용\"")
+                    .content("첫 줄\n둘째 줄")
+                    .createdAt(new Timestamp(System.currentTimeMillis()))
+                    .build();
+            em.persist(board);
+            return board.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기는 작성자가 없는 게시글도 작성자 값만 비워서 포함한다")
+    public void export_ndjson_test() throws IOException {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = boardExportService.exportBoards("ndjson", out);
+
+        // then
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertEquals(boardCount(), count);
+        assertEquals(count, rows.size());
+
+        JsonNode orphan = rows.stream().filter(row -> row.get("id").asInt() == orphanId).findFirst().orElseThrow();
+        assertTrue(orphan.get("userId").isNull());
+        assertTrue(orphan.get("username").isNull());
+        assertEquals("첫 줄\n둘째 줄", orphan.get("content").asText());
+        // 작성자가 있는 게시글은 그대로
+        assertEquals("길동", rows.get(0).get("username").asText());
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기는 헤더 다음에 게시글마다 한 행을 쓰고 작성자가 없으면 빈 값으로 쓴다")
+    public void export_csv_test() throws IOException {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = boardExportService.exportBoards("csv", out);
+
+        // then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals(boardCount(), count);
+        assertTrue(csv.startsWith("id,title,content,userId,username,createdAt\r\n"));
+        assertTrue(csv.contains(orphanId + ",\"작성자 없는 글, \"\"인용\"\"\",\"첫 줄\n둘째 줄\",,,"));
+    }
+
+    private long boardCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board_tb", Long.class);
+    }
+}
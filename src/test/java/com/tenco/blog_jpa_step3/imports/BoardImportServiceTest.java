@@ -0,0 +1,193 @@
+package com.tenco.blog_jpa_step3.imports;
+
+import com.tenco.blog_jpa_step3.commom.errors.Exception400;
+import com.tenco.blog_jpa_step3.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BoardImportServiceTest는 게시글 가져오기의 재시작, 잘못된 행 건너뛰기, 같은 작업 동시 요청을 검증하는 클래스입니다.
+ * 가져온 게시글이 다른 테스트의 게시글 수에 섞이지 않도록 별도의 H2 를 사용하고, 배치 크기를 2로 줄여 커밋 지점을 만듭니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:import_test;MODE=MySQL",
+        "blog.import.batch-size=2"
+})
+public class BoardImportServiceTest {
+
+    @Autowired
+    private BoardImportService boardImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final User admin = User.builder().id(3).username("마이콜").build();
+
+    @Test
+    @DisplayName("잘못된 행은 건너뛰고 행 번호를 보고하며 나머지 행은 저장된다")
+    public void skip_invalid_rows_test() throws IOException {
+        // given - 2행: 깨진 JSON, 4행: 잘못된 작성 시간, 5행: 빈 제목
+        String ndjson = """
+                {"title":"건너뛰기 1"}
+                {"title":"건너뛰기
+                {"title":"건너뛰기 3","content":"내용"}
+                {"title":"건너뛰기 4","createdAt":"어제"}
+                {"title":" "}
+                {"title":"건너뛰기 6","createdAt":"2024-01-01T10:00:00"}
+                """;
+
+        // when
+        Map<String, Object> result = boardImportService.importBoards("skip-job", "ndjson", stream(ndjson), admin);
+
+        // then
+        assertEquals(BoardImportJob.Status.DONE, result.get("status"));
+        assertEquals(3L, result.get("importedRows"));
+        assertEquals(3L, result.get("skippedRows"));
+        assertEquals(6L, result.get("committedRows"));
+        List<?> errors = (List<?>) result.get("errors");
+        assertEquals(3, errors.size());
+        assertTrue(errors.get(0).toString().startsWith("2번째 행"));
+        assertTrue(errors.get(1).toString().startsWith("4번째 행"));
+        assertTrue(errors.get(2).toString().startsWith("5번째 행"));
+        assertEquals(3, countTitles("건너뛰기 %"));
+
+        // 다시 보내도 같은 곳에서 실패하지 않고 완료된 작업으로 응답한다
+        Map<String, Object> again = boardImportService.importBoards("skip-job", "ndjson", stream(ndjson), admin);
+        assertEquals(BoardImportJob.Status.DONE, again.get("status"));
+        assertTrue(again.get("message").toString().contains("2번째 행"));
+        assertEquals(3, countTitles("건너뛰기 %"));
+    }
+
+    @Test
+    @DisplayName("CSV 의 닫히지 않은 따옴표는 그 행만 건너뛴다")
+    public void csv_unterminated_quote_test() throws IOException {
+        // given
+        String csv = """
+                title,content
+                CSV 1,내용
+                CSV 2,"닫히지 않은 내용
+                """;
+
+        // when
+        Map<String, Object> result = boardImportService.importBoards("csv-job", "csv", stream(csv), admin);
+
+        // then
+        assertEquals(1L, result.get("importedRows"));
+        assertEquals(1L, result.get("skippedRows"));
+        assertTrue(((List<?>) result.get("errors")).get(0).toString().startsWith("3번째 행"));
+        assertEquals(1, countTitles("CSV %"));
+    }
+
+    @Test
+    @DisplayName("중간에 끊긴 작업을 같은 jobId 로 다시 보내면 커밋된 행 다음부터 이어서 저장한다")
+    public void resume_test() throws IOException {
+        // given
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= 5; i++) {
+            ndjson.append("{\"title\":\"재시작 ").append(i).append("\"}\n");
+        }
+        byte[] bytes = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+
+        // when - 5행을 모두 읽은 뒤 연결이 끊김 (2행씩 두 배치는 커밋, 5행은 커밋 전)
+        InputStream broken = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() throws IOException {
+                if (position == bytes.length) {
+                    throw new IOException("연결 끊김");
+                }
+                return bytes[position++] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (position == bytes.length) {
+                    throw new IOException("연결 끊김");
+                }
+                int n = Math.min(len, bytes.length - position);
+                System.arraycopy(bytes, position, b, off, n);
+                position += n;
+                return n;
+            }
+        };
+        assertThrows(IOException.class,
+                () -> boardImportService.importBoards("resume-job", "ndjson", broken, admin));
+
+        // then
+        Map<String, Object> failed = boardImportService.getProgress("resume-job");
+        assertEquals(BoardImportJob.Status.FAILED, failed.get("status"));
+        assertEquals(4L, failed.get("committedRows"));
+        assertEquals(4, countTitles("재시작 %"));
+
+        Map<String, Object> resumed = boardImportService.importBoards("resume-job", "ndjson",
+                new ByteArrayInputStream(bytes), admin);
+        assertEquals(BoardImportJob.Status.DONE, resumed.get("status"));
+        assertEquals(4L, resumed.get("resumedFrom"));
+        assertEquals(5L, resumed.get("importedRows"));
+        assertEquals(5, countTitles("재시작 %"));
+    }
+
+    @Test
+    @DisplayName("같은 새 jobId 로 동시에 요청해도 500 없이 한 번만 저장된다")
+    public void concurrent_same_job_test() throws Exception {
+        // given
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= 20; i++) {
+            ndjson.append("{\"title\":\"동시 ").append(i).append("\"}\n");
+        }
+        int requests = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return boardImportService.importBoards("concurrent-job", "ndjson",
+                            stream(ndjson.toString()), admin).get("status").toString();
+                } catch (Exception400 e) {
+                    return "이미 진행 중";
+                }
+            }));
+        }
+        start.countDown();
+
+        // then - 400(이미 진행 중) 또는 완료 응답만 있고, 다른 예외(500)는 없다
+        for (Future<String> future : futures) {
+            String status = future.get();
+            assertTrue(status.equals("DONE") || status.equals("이미 진행 중"), status);
+        }
+        executor.shutdown();
+        assertEquals(20, countTitles("동시 %"));
+    }
+
+    private int countTitles(String pattern) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board_tb WHERE title LIKE ?", Integer.class, pattern);
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
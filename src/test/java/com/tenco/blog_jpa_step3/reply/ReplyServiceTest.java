@@ -0,0 +1,81 @@
+package com.tenco.blog_jpa_step3.reply;
+
+import com.tenco.blog_jpa_step3.commom.errors.Exception404;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ReplyServiceTest는 댓글 삭제가 게시글의 댓글 수 / 마지막 댓글 시간을 정확히 맞추는지 검증하는 클래스입니다.
+ * 게시글 값이 다른 테스트에 섞이지 않도록 별도의 H2 를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:reply_test;MODE=MySQL")
+public class ReplyServiceTest {
+
+    // data.sql - 게시글 4 의 활성 댓글은 2번(길동), 4번(둘리)
+    private static final int BOARD_ID = 4;
+
+    @Autowired
+    private ReplyService replyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 댓글을 동시에 여러 번 지워도 댓글 수는 한 번만 줄고 마지막 댓글 시간은 남은 댓글 기준이 된다")
+    public void concurrent_delete_test() throws Exception {
+        // given - 4번 댓글을 가장 최근 댓글로 만든다
+        jdbcTemplate.update("UPDATE reply_tb SET created_at = ? WHERE id = 2", Timestamp.valueOf("2024-01-01 10:00:00"));
+        jdbcTemplate.update("UPDATE reply_tb SET created_at = ? WHERE id = 4", Timestamp.valueOf("2024-01-02 10:00:00"));
+        int before = replyCount();
+
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    replyService.deleteReply(4, 2, BOARD_ID);
+                    return "삭제";
+                } catch (Exception404 e) {
+                    // 이미 지워진 뒤에 조회한 요청
+                    return "없음";
+                }
+            }));
+        }
+        start.countDown();
+
+        // then - 404 외의 예외는 없다
+        for (Future<String> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Map<String, Object> board = jdbcTemplate.queryForMap(
+                "SELECT reply_count, last_reply_at FROM board_tb WHERE id = ?", BOARD_ID);
+        assertEquals(before - 1, ((Number) board.get("reply_count")).intValue());
+        assertEquals(Timestamp.valueOf("2024-01-01 10:00:00"), board.get("last_reply_at"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reply_tb WHERE id = 4", Integer.class));
+    }
+
+    private int replyCount() {
+        return jdbcTemplate.queryForObject("SELECT reply_count FROM board_tb WHERE id = ?", Integer.class, BOARD_ID);
+    }
+}
@@ -0,0 +1,140 @@
+package com.tenco.blog_jpa_step3.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BoardSearchIndexTest는 검색 색인의 토큰화, 순위, 수정/삭제 반영, 페이지 나누기, 초기 색인 중 쓰기 처리를 검증하는 클래스입니다.
+ * DB 없이 색인만 만들어 사용합니다. (build 는 호출하지 않음)
+ */
+public class BoardSearchIndexTest {
+
+    @Test
+    @DisplayName("bi-gram 토큰화는 조사가 붙은 어절과 대소문자/전각 문자도 찾을 수 있게 자른다")
+    public void tokenize_test() {
+        assertEquals(List.of("게시", "시글", "글을", "작성"), BigramTokenizer.tokenize("게시글을 작성"));
+        assertEquals(List.of("a", "jp", "pa"), BigramTokenizer.tokenize("A, ＪＰＡ!"));
+        assertTrue(BigramTokenizer.tokenize("  !? ").isEmpty());
+        assertEquals(List.of("책을", "책", "을", "샀다", "샀", "다", "왜"), BigramTokenizer.tokenizeForIndex("책을 샀다 왜"));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 그 글자가 들어간 어절(두 글자 이상)도 찾는다")
+    public void single_character_query_test() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        index.put(1, "책을 읽자", "내용");
+        index.put(2, "일기", "공책 정리");
+        index.put(3, "영화", "내용");
+
+        assertEquals(List.of(1, 2), index.search("책", 0, 10).getIds()); // 제목에 나온 글이 먼저
+        assertEquals(List.of(2), index.search("공책", 0, 10).getIds());
+        assertEquals(0, index.search("책 영화", 0, 10).getTotal());
+    }
+
+    @Test
+    @DisplayName("모든 토큰을 포함한 글만 찾고, 제목에 나온 글을 더 높은 순위로 정렬한다")
+    public void ranking_test() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        index.put(1, "자바 입문", "스프링 이야기");
+        index.put(2, "일기", "오늘은 자바 공부");
+        index.put(3, "스프링", "자바 없이");
+        index.put(4, "파이썬", "다른 언어");
+
+        assertEquals(List.of(1, 3, 2), index.search("자바", 0, 10).getIds());
+        assertEquals(List.of(3, 1), index.search("자바 스프링", 0, 10).getIds());
+        assertEquals(0, index.search("자바 파이썬", 0, 10).getTotal());
+        assertEquals(0, index.search("  ", 0, 10).getTotal());
+    }
+
+    @Test
+    @DisplayName("수정하면 예전 내용으로는 더 이상 찾을 수 없고, 삭제하면 결과에서 빠진다")
+    public void update_and_delete_test() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        index.put(1, "제목", "사과 바나나");
+        index.put(2, "제목", "사과");
+
+        index.put(1, "제목", "포도");
+        assertEquals(List.of(2), index.search("사과", 0, 10).getIds());
+        assertEquals(List.of(1), index.search("포도", 0, 10).getIds());
+        assertEquals(0, index.search("바나나", 0, 10).getTotal());
+
+        index.remove(2);
+        assertEquals(0, index.search("사과", 0, 10).getTotal());
+        assertEquals(List.of(1), index.search("제목", 0, 10).getIds());
+    }
+
+    @Test
+    @DisplayName("페이지를 나누어 반환하고, 범위를 벗어난 페이지는 빈 결과를 반환한다")
+    public void paging_test() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        for (int id = 1; id <= 25; id++) {
+            index.put(id, "공지 " + id, "내용");
+        }
+
+        BoardSearchIndex.Hits first = index.search("공지", 0, 10);
+        assertEquals(25, first.getTotal());
+        assertEquals(10, first.getIds().size());
+        assertEquals(25, first.getIds().get(0)); // 같은 점수는 최신 글 먼저
+        assertEquals(5, index.search("공지", 2, 10).getIds().size());
+        assertTrue(index.search("공지", 3, 10).getIds().isEmpty());
+        // page * size 가 int 범위를 넘는 페이지
+        assertTrue(index.search("공지", Integer.MAX_VALUE, 10).getIds().isEmpty());
+        assertEquals(25, index.search("공지", Integer.MAX_VALUE, 10).getTotal());
+    }
+
+    @Test
+    @DisplayName("초기 색인 중 이미 반영된 작성/수정/삭제는 스캔의 옛 값으로 덮어쓰지 않는다")
+    public void write_during_build_test() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+
+        // 스캔 도중 수정/삭제가 먼저 반영된 경우
+        index.put(1, "새 제목", "수정된 내용");
+        index.remove(2);
+        index.putScanned(1, "옛 제목", "예전 내용");
+        index.putScanned(2, "삭제된 글", "예전 내용");
+        index.putScanned(3, "그대로", "예전 내용");
+
+        assertEquals(List.of(1), index.search("수정", 0, 10).getIds());
+        assertEquals(List.of(3), index.search("예전", 0, 10).getIds());
+        assertEquals(0, index.search("삭제", 0, 10).getTotal());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 쓰고 검색해도 마지막 내용 기준으로 색인된다")
+    public void concurrent_write_test() throws Exception {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int id = offset; id < 2_000; id += 4) {
+                        index.put(id, "공통 제목", "임시 내용");
+                        index.search("공통", 0, 10);
+                        index.put(id, "공통 제목", id % 2 == 0 ? "짝수 글" : "홀수 글");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2_000, index.search("공통", 0, 10).getTotal());
+        assertEquals(1_000, index.search("짝수", 0, 10).getTotal());
+        assertEquals(0, index.search("임시", 0, 10).getTotal());
+    }
+}
@@ -0,0 +1,78 @@
+package com.tenco.blog_jpa_step3.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PostingListTest는 압축 포스팅 리스트의 중간 삽입 / 가중치 교체 / 삭제가 제자리 수정 후에도 올바른지 검증하는 클래스입니다.
+ */
+public class PostingListTest {
+
+    @Test
+    @DisplayName("중간 삽입, 가중치 교체, 처음/중간/마지막 삭제 후에도 목록이 정렬된 상태로 유지된다")
+    public void patch_in_place_test() {
+        PostingList list = new PostingList();
+        list.add(10, 1);
+        list.add(300, 2); // 2바이트 delta
+        list.add(20, 3); // 중간 삽입
+        list.add(300, 200); // 가중치 교체 (1바이트 -> 2바이트)
+        list.add(5, 4); // 맨 앞 삽입
+
+        assertEntries(list, new int[]{5, 10, 20, 300}, new int[]{4, 1, 3, 200});
+
+        assertTrue(list.remove(10)); // 중간
+        assertEntries(list, new int[]{5, 20, 300}, new int[]{4, 3, 200});
+        assertTrue(list.remove(5)); // 처음
+        assertTrue(list.remove(300)); // 마지막
+        assertFalse(list.remove(300));
+        assertFalse(list.remove(7));
+        assertEntries(list, new int[]{20}, new int[]{3});
+
+        // 마지막 항목을 지운 뒤에도 뒤에 이어 붙이기가 올바른 delta 를 사용한다.
+        list.add(25, 1);
+        assertEntries(list, new int[]{20, 25}, new int[]{3, 1});
+    }
+
+    @Test
+    @DisplayName("무작위 추가/삭제 결과가 TreeMap 과 같다")
+    public void random_operations_test() {
+        PostingList list = new PostingList();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            int id = 1 + random.nextInt(random.nextBoolean() ? 200 : 100_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id) != null, list.remove(id));
+            } else {
+                int weight = 1 + random.nextInt(500);
+                expected.put(id, weight);
+                list.add(id, weight);
+            }
+        }
+
+        int[] ids = expected.keySet().stream().mapToInt(Integer::intValue).toArray();
+        int[] weights = expected.values().stream().mapToInt(Integer::intValue).toArray();
+        assertEntries(list, ids, weights);
+        for (Map.Entry<Integer, Integer> entry : Map.copyOf(expected).entrySet()) {
+            assertTrue(list.remove(entry.getKey()));
+        }
+        assertEquals(0, list.size());
+    }
+
+    private static void assertEntries(PostingList list, int[] ids, int[] weights) {
+        PostingList.Entries entries = list.decode();
+        assertEquals(ids.length, list.size());
+        assertArrayEquals(ids, entries.ids);
+        assertArrayEquals(weights, entries.weights);
+    }
+}